@@ -0,0 +1,292 @@
+package hr.fer.oprpp1.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs benchmarks with allocation profiling and stores results of one release so
+ * they can be archived and compared with results of some later release.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -cp target/benchmarks.jar hr.fer.oprpp1.benchmark.BenchmarkRunner RELEASE
+ *      [--baseline FILE.csv] [--output DIR] [--threshold PERCENT] [--quick] [REGEX...]
+ * </pre>
+ * Results are written in <code>DIR/RELEASE.json</code> in JMH format and in
+ * <code>DIR/RELEASE.csv</code> with one row per benchmark and parameters. If baseline
+ * is given, comparison with it is written in <code>DIR/RELEASE-vs-BASELINE.csv</code>
+ * and printed. Regular expressions select benchmarks to run, all are run if none is given.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Header of file with results of one release.
+     */
+    private static final String RESULTS_HEADER = "benchmark,params,mode,unit,score,error,allocBytesPerOp";
+
+    /**
+     * Header of file with comparison of two releases.
+     */
+    private static final String COMPARISON_HEADER = "benchmark,params,mode,unit,baseline,current,changePercent,baselineAllocBytesPerOp,currentAllocBytesPerOp,verdict";
+
+    /**
+     * Name of secondary result of GC profiler with allocated bytes per operation.
+     */
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        String release = null;
+        Path baseline = null;
+        Path output = Paths.get("benchmark-results");
+        double threshold = 10;
+        boolean quick = false;
+        List<String> includes = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline":
+                    baseline = Paths.get(args[++i]);
+                    break;
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++i]);
+                    break;
+                case "--quick":
+                    quick = true;
+                    break;
+                default:
+                    if (release == null)
+                        release = args[i];
+                    else
+                        includes.add(args[i]);
+            }
+        }
+        if (release == null) {
+            System.err.println("Usage: BenchmarkRunner RELEASE [--baseline FILE.csv] [--output DIR] [--threshold PERCENT] [--quick] [REGEX...]");
+            System.exit(1);
+        }
+
+        Files.createDirectories(output);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(output.resolve(release + ".json").toString());
+        for (String include : includes)
+            options.include(include);
+        /*quick run only checks that benchmarks work, its scores are not stable enough to be archived*/
+        if (quick) {
+            options.warmupIterations(1).warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(1).measurementTime(TimeValue.seconds(1))
+                    .forks(1);
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        Map<String, Row> current = new LinkedHashMap<>();
+        for (RunResult result : results) {
+            Row row = Row.of(result);
+            current.put(row.key(), row);
+        }
+        writeResults(output.resolve(release + ".csv"), current);
+
+        if (baseline != null) {
+            String baselineName = baseline.getFileName().toString().replaceFirst("\\.csv$", "");
+            compare(readResults(baseline), current, threshold,
+                    output.resolve(release + "-vs-" + baselineName + ".csv"));
+        }
+    }
+
+    /**
+     * Writes given results in file.
+     *
+     * @param file file of results.
+     * @param rows results of benchmarks.
+     * @throws IOException if file can not be written.
+     */
+    private static void writeResults(Path file, Map<String, Row> rows) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println(RESULTS_HEADER);
+            for (Row row : rows.values())
+                writer.println(row);
+        }
+    }
+
+    /**
+     * Reads results written by {@link #writeResults(Path, Map)}.
+     *
+     * @param file file of results.
+     * @return returns results of benchmarks by their keys.
+     * @throws IOException if file can not be read.
+     */
+    private static Map<String, Row> readResults(Path file) throws IOException {
+        Map<String, Row> rows = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank())
+                continue;
+            Row row = Row.parse(line);
+            rows.put(row.key(), row);
+        }
+        return rows;
+    }
+
+    /**
+     * Compares current results with baseline, writes comparison in file and
+     * prints benchmarks which became slower or faster than given threshold.
+     *
+     * @param baseline results of older release.
+     * @param current results of this release.
+     * @param threshold smallest change in percents which is reported.
+     * @param file file of comparison.
+     * @throws IOException if file can not be written.
+     */
+    private static void compare(Map<String, Row> baseline, Map<String, Row> current, double threshold, Path file) throws IOException {
+        int regressions = 0;
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println(COMPARISON_HEADER);
+            for (Row row : current.values()) {
+                Row old = baseline.get(row.key());
+                if (old == null)
+                    continue;
+                double change = (row.score - old.score) / old.score * 100;
+                /*for throughput bigger score is better, for other modes smaller score is better*/
+                double worsening = row.mode.equals("thrpt") ? -change : change;
+                String verdict = "SAME";
+                if (Math.abs(row.score - old.score) > row.error + old.error && Math.abs(change) >= threshold)
+                    verdict = worsening > 0 ? "REGRESSION" : "IMPROVEMENT";
+                if (verdict.equals("REGRESSION"))
+                    regressions++;
+                if (!verdict.equals("SAME"))
+                    System.out.printf(Locale.ROOT, "%-11s %s [%s] %.3f -> %.3f %s (%+.1f%%)%n",
+                            verdict, row.benchmark, row.params, old.score, row.score, row.unit, change);
+                writer.printf(Locale.ROOT, "%s,%s,%s,%s,%s,%s,%.2f,%s,%s,%s%n", row.benchmark, row.params, row.mode, row.unit,
+                        old.score, row.score, change, old.allocation, row.allocation, verdict);
+            }
+        }
+        System.out.println(regressions + " regressions, comparison written in " + file);
+    }
+
+    /**
+     * Result of one benchmark with one combination of parameters.
+     */
+    private static final class Row {
+
+        /**
+         * Full name of benchmark method.
+         */
+        private final String benchmark;
+
+        /**
+         * Parameters of benchmark as <code>name=value</code> pairs separated with semicolons.
+         */
+        private final String params;
+
+        /**
+         * Short name of benchmark mode.
+         */
+        private final String mode;
+
+        /**
+         * Unit of score.
+         */
+        private final String unit;
+
+        /**
+         * Score of benchmark.
+         */
+        private final double score;
+
+        /**
+         * Error of score.
+         */
+        private final double error;
+
+        /**
+         * Allocated bytes per operation or <code>NaN</code> if it was not measured.
+         */
+        private final double allocation;
+
+        private Row(String benchmark, String params, String mode, String unit, double score, double error, double allocation) {
+            this.benchmark = benchmark;
+            this.params = params;
+            this.mode = mode;
+            this.unit = unit;
+            this.score = score;
+            this.error = error;
+            this.allocation = allocation;
+        }
+
+        /**
+         * Creates row from result of JMH run.
+         *
+         * @param result result of JMH run.
+         * @return returns new row.
+         */
+        private static Row of(RunResult result) {
+            BenchmarkParams benchmarkParams = result.getParams();
+            StringBuilder params = new StringBuilder();
+            for (String key : benchmarkParams.getParamsKeys()) {
+                if (params.length() > 0)
+                    params.append(';');
+                params.append(key).append('=').append(benchmarkParams.getParam(key));
+            }
+            double allocation = Double.NaN;
+            for (Map.Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+                if (secondary.getKey().endsWith(ALLOCATION))
+                    allocation = secondary.getValue().getScore();
+            }
+            Result primary = result.getPrimaryResult();
+            double error = Double.isNaN(primary.getScoreError()) ? 0 : primary.getScoreError();
+            return new Row(benchmarkParams.getBenchmark(), params.toString(), benchmarkParams.getMode().shortLabel(),
+                    primary.getScoreUnit(), primary.getScore(), error, allocation);
+        }
+
+        /**
+         * Creates row from line of results file.
+         *
+         * @param line line of results file.
+         * @return returns new row.
+         */
+        private static Row parse(String line) {
+            String[] parts = line.split(",", -1);
+            return new Row(parts[0], parts[1], parts[2], parts[3],
+                    Double.parseDouble(parts[4]), Double.parseDouble(parts[5]), Double.parseDouble(parts[6]));
+        }
+
+        /**
+         * @return returns key which is same for results of same benchmark with same parameters.
+         */
+        private String key() {
+            return this.benchmark + '|' + this.params + '|' + this.mode;
+        }
+
+        @Override
+        public String toString() {
+            return this.benchmark + ',' + this.params + ',' + this.mode + ',' + this.unit + ','
+                    + this.score + ',' + this.error + ',' + this.allocation;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of pushing and popping from many threads on one stack:
+ * <code>ObjectStack</code> guarded by one lock, <code>ConcurrentObjectStack</code>
+ * without elimination and <code>ConcurrentObjectStack</code> with elimination array.
+ * Number of threads can be changed with <code>-t</code>, contention is usually
+ * measured with 1, 2, 4, 8, 16, 32 and 64 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentObjectStackBenchmark {
+
+    /**
+     * Number of elements on stack before measurement.
+     */
+    private static final int DEPTH = 1000;
+
+    /**
+     * Stack shared by all threads.
+     */
+    @Param({"SYNCHRONIZED", "TREIBER", "ELIMINATION"})
+    public String implementation;
+
+    /**
+     * Stack guarded by its own monitor, used by SYNCHRONIZED implementation.
+     */
+    private ObjectStack<Integer> synchronizedStack;
+
+    /**
+     * Stack used by TREIBER and ELIMINATION implementations.
+     */
+    private ConcurrentObjectStack<Integer> concurrentStack;
+
+    /**
+     * Pushed element.
+     */
+    private final Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.synchronizedStack = new ObjectStack<>();
+        this.concurrentStack = new ConcurrentObjectStack<>(implementation.equals("ELIMINATION") ? 8 : 0);
+        for (int i = 0; i < DEPTH; i++) {
+            this.synchronizedStack.push(i);
+            this.concurrentStack.push(i);
+        }
+    }
+
+    /**
+     * Pushes one element and pops one element so stack keeps its depth.
+     *
+     * @return returns popped element.
+     */
+    @Benchmark
+    public Integer pushPop() {
+        if (implementation.equals("SYNCHRONIZED")) {
+            synchronized (this.synchronizedStack) {
+                this.synchronizedStack.push(this.element);
+            }
+            synchronized (this.synchronizedStack) {
+                return this.synchronizedStack.pop();
+            }
+        }
+        this.concurrentStack.push(this.element);
+        return this.concurrentStack.tryPop();
+    }
+}
@@ -0,0 +1,94 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of mixed reads and writes from many threads on
+ * <code>ConcurrentSimpleHashtable</code> and on <code>SimpleHashtable</code>
+ * guarded by one lock. Number of threads can be changed with <code>-t</code>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentSimpleHashtableBenchmark {
+
+    /**
+     * Number of distinct keys used by operations.
+     */
+    @Param({"100000"})
+    public int keys;
+
+    /**
+     * Percentage of operations which only read map.
+     */
+    @Param({"90", "50"})
+    public int readPercent;
+
+    /**
+     * Map shared by all threads.
+     */
+    @Param({"SYNCHRONIZED", "CONCURRENT"})
+    public String implementation;
+
+    /**
+     * Map guarded by its own monitor, used by SYNCHRONIZED implementation.
+     */
+    private SimpleHashtable<Integer, Integer> synchronizedTable;
+
+    /**
+     * Map used by CONCURRENT implementation.
+     */
+    private ConcurrentSimpleHashtable<Integer, Integer> concurrentTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.synchronizedTable = new SimpleHashtable<>();
+        this.concurrentTable = new ConcurrentSimpleHashtable<>();
+        for (int i = 0; i < keys; i += 2) {
+            this.synchronizedTable.put(i, i);
+            this.concurrentTable.put(i, i);
+        }
+    }
+
+    /**
+     * Reads key with probability given by <code>readPercent</code>,
+     * otherwise puts or removes it.
+     *
+     * @return returns result of operation.
+     */
+    @Benchmark
+    public Integer mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(keys);
+        int operation = random.nextInt(100);
+        if (implementation.equals("CONCURRENT")) {
+            if (operation < readPercent)
+                return this.concurrentTable.get(key);
+            return (operation & 1) == 0 ? this.concurrentTable.put(key, key) : this.concurrentTable.remove(key);
+        }
+        synchronized (this.synchronizedTable) {
+            if (operation < readPercent)
+                return this.synchronizedTable.get(key);
+            return (operation & 1) == 0 ? this.synchronizedTable.put(key, key) : this.synchronizedTable.remove(key);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures average time of <code>get</code> and <code>put</code> of existing key
+ * on <code>Dictionary</code> holding from thousand to million entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DictionaryBenchmark {
+
+    /**
+     * Number of precomputed keys which are searched in turn.
+     */
+    private static final int LOOKUPS = 1 << 16;
+
+    /**
+     * Number of entries stored in dictionary.
+     */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * Distribution of searched keys.
+     */
+    @Param({"UNIFORM", "SKEWED"})
+    public KeyDistribution distribution;
+
+    /**
+     * Dictionary on which operations are measured.
+     */
+    private Dictionary<String, Integer> dictionary;
+
+    /**
+     * Keys searched in turn.
+     */
+    private String[] lookups;
+
+    /**
+     * Index of next searched key.
+     */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.dictionary = new Dictionary<>();
+        for (int i = 0; i < size; i++)
+            this.dictionary.put("key" + i, i);
+
+        int[] indices = distribution.indices(LOOKUPS, size, 42);
+        this.lookups = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++)
+            this.lookups[i] = "key" + indices[i];
+    }
+
+    @Benchmark
+    public Integer get() {
+        return this.dictionary.get(this.lookups[this.cursor++ & (LOOKUPS - 1)]);
+    }
+
+    @Benchmark
+    public Integer put() {
+        return this.dictionary.put(this.lookups[this.cursor++ & (LOOKUPS - 1)], this.cursor);
+    }
+}
@@ -0,0 +1,67 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Random;
+
+/**
+ * Distribution of indices of keys searched by benchmarks.
+ */
+public enum KeyDistribution {
+
+    /**
+     * Every index is equally likely.
+     */
+    UNIFORM {
+        @Override
+        int next(Random random, int position, int bound) {
+            return random.nextInt(bound);
+        }
+    },
+
+    /**
+     * Indices are given in ascending order and start again from zero.
+     */
+    SEQUENTIAL {
+        @Override
+        int next(Random random, int position, int bound) {
+            return position % bound;
+        }
+    },
+
+    /**
+     * Small indices are much more likely than big ones, so few keys
+     * are searched most of the time, as in caches with hot keys.
+     */
+    SKEWED {
+        @Override
+        int next(Random random, int position, int bound) {
+            double r = random.nextDouble();
+            return (int) (bound * r * r * r);
+        }
+    };
+
+    /**
+     * Returns next index of this distribution.
+     *
+     * @param random source of random numbers.
+     * @param position number of indices given before this one.
+     * @param bound number of possible indices.
+     * @return returns index between zero and <code>bound</code>, not including <code>bound</code>.
+     */
+    abstract int next(Random random, int position, int bound);
+
+    /**
+     * Returns array of indices of this distribution. Same seed gives same indices.
+     *
+     * @param count number of indices.
+     * @param bound number of possible indices.
+     * @param seed seed of random numbers.
+     * @return returns new array of indices.
+     */
+    public int[] indices(int count, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++)
+            indices[i] = next(random, i, bound);
+        return indices;
+    }
+}
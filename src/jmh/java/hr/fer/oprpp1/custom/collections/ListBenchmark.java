@@ -0,0 +1,161 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures average time of operations of <code>List</code> implementations
+ * holding given number of elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmark {
+
+    /**
+     * Number of precomputed indices which are used in turn.
+     */
+    private static final int LOOKUPS = 1 << 12;
+
+    /**
+     * Number of elements stored in list.
+     */
+    @Param({"100", "10000"})
+    public int size;
+
+    /**
+     * Implementation of list.
+     */
+    @Param({"ARRAY_INDEXED", "CIRCULAR_ARRAY", "LINKED_LIST", "UNROLLED_LINKED_LIST"})
+    public String implementation;
+
+    /**
+     * Distribution of accessed indices.
+     */
+    @Param({"UNIFORM", "SEQUENTIAL"})
+    public KeyDistribution distribution;
+
+    /**
+     * List on which operations are measured.
+     */
+    private List<Integer> list;
+
+    /**
+     * Elements of list, element on some index is stored on same index in list.
+     */
+    private Integer[] elements;
+
+    /**
+     * Indices accessed in turn.
+     */
+    private int[] indices;
+
+    /**
+     * Index of next accessed index.
+     */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.elements = new Integer[size];
+        for (int i = 0; i < size; i++)
+            this.elements[i] = i;
+        this.list = newList();
+        for (Integer element : this.elements)
+            this.list.add(element);
+        this.indices = distribution.indices(LOOKUPS, size, 42);
+    }
+
+    /**
+     * @return returns new empty list of measured implementation.
+     */
+    private List<Integer> newList() {
+        switch (implementation) {
+            case "ARRAY_INDEXED":
+                return new ArrayIndexedCollection<>();
+            case "CIRCULAR_ARRAY":
+                return new CircularArrayIndexedCollection<>();
+            case "UNROLLED_LINKED_LIST":
+                return new UnrolledLinkedListIndexedCollection<>();
+            default:
+                return new LinkedListIndexedCollection<>();
+        }
+    }
+
+    /**
+     * @return returns next accessed index.
+     */
+    private int nextIndex() {
+        return this.indices[this.cursor++ & (LOOKUPS - 1)];
+    }
+
+    @Benchmark
+    public Object get() {
+        return this.list.get(nextIndex());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return this.list.contains(this.elements[nextIndex()]);
+    }
+
+    /**
+     * Inserts element on accessed index and removes it again so list keeps its size.
+     */
+    @Benchmark
+    public void insertRemove() {
+        int index = nextIndex();
+        this.list.insert(this.elements[index], index);
+        this.list.remove(index);
+    }
+
+    /**
+     * Inserts element at beginning of list and removes first element, as queue does.
+     */
+    @Benchmark
+    public void insertRemoveFirst() {
+        this.list.insert(this.elements[nextIndex()], 0);
+        this.list.remove(0);
+    }
+
+    /**
+     * Fills new list with all elements.
+     *
+     * @return returns filled list.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> fill() {
+        List<Integer> filled = newList();
+        for (Integer element : this.elements)
+            filled.add(element);
+        return filled;
+    }
+
+    /**
+     * Visits all elements of list with <code>forEach</code>.
+     *
+     * @param blackhole consumer of visited elements.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void forEach(Blackhole blackhole) {
+        this.list.forEach(blackhole::consume);
+    }
+}
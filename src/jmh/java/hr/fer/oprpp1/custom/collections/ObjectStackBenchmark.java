@@ -0,0 +1,137 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures average time of pushing and popping on <code>ObjectStack</code>
+ * and on <code>IntStack</code> which stores same values unboxed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectStackBenchmark {
+
+    /**
+     * Number of elements on stack before measured operation.
+     */
+    @Param({"10", "10000"})
+    public int depth;
+
+    /**
+     * Stack on which operations are measured.
+     */
+    private ObjectStack<Integer> stack;
+
+    /**
+     * Stack of primitive values on which operations are measured.
+     */
+    private IntStack intStack;
+
+    /**
+     * Pushed elements.
+     */
+    private Integer[] elements;
+
+    /**
+     * Array into which elements are popped with bulk operation.
+     */
+    private Integer[] popped;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.elements = new Integer[depth];
+        for (int i = 0; i < depth; i++)
+            this.elements[i] = i;
+        this.popped = new Integer[depth];
+        this.stack = new ObjectStack<>();
+        for (Integer element : this.elements)
+            this.stack.push(element);
+        this.intStack = new IntStack();
+        for (int i = 0; i < depth; i++)
+            this.intStack.push(i);
+    }
+
+    /**
+     * Pushes one element and pops it again so stack keeps its depth.
+     *
+     * @return returns popped element.
+     */
+    @Benchmark
+    public Integer pushPop() {
+        this.stack.push(this.elements[0]);
+        return this.stack.pop();
+    }
+
+    /**
+     * Pushes and pops all elements with bulk operations.
+     *
+     * @return returns last popped element.
+     */
+    @Benchmark
+    public Integer pushAllPopN() {
+        this.stack.pushAll(this.elements);
+        this.stack.popN(this.popped, this.popped.length);
+        return this.popped[0];
+    }
+
+    /**
+     * Fills new stack to its depth and pops all elements.
+     *
+     * @return returns last popped element.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Integer fillDrain() {
+        ObjectStack<Integer> filled = new ObjectStack<>();
+        for (Integer element : this.elements)
+            filled.push(element);
+        Integer last = null;
+        while (!filled.isEmpty())
+            last = filled.pop();
+        return last;
+    }
+
+    /**
+     * Pushes one value on stack of primitive values and pops it again.
+     *
+     * @return returns popped value.
+     */
+    @Benchmark
+    public int intPushPop() {
+        this.intStack.push(depth);
+        return this.intStack.pop();
+    }
+
+    /**
+     * Fills new stack of primitive values to its depth and pops all values.
+     *
+     * @return returns last popped value.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int intFillDrain() {
+        IntStack filled = new IntStack();
+        for (int i = 0; i < depth; i++)
+            filled.push(i);
+        int last = 0;
+        while (!filled.isEmpty())
+            last = filled.pop();
+        return last;
+    }
+}
@@ -0,0 +1,83 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures average time of inserting batch of entries into empty
+ * <code>SimpleHashtable</code> with <code>putAll</code> and with one <code>put</code> per entry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleHashtableBulkBenchmark {
+
+    /**
+     * Number of entries in one batch.
+     */
+    @Param({"1000", "100000"})
+    public int batch;
+
+    /**
+     * Storage engine of map.
+     */
+    @Param({"CHAINED", "OPEN_ADDRESSING"})
+    public String engine;
+
+    /**
+     * Keys of batch.
+     */
+    private Integer[] keys;
+
+    /**
+     * Values of batch.
+     */
+    private Integer[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.keys = new Integer[batch];
+        this.values = new Integer[batch];
+        for (int i = 0; i < batch; i++) {
+            this.keys[i] = i * 31;
+            this.values[i] = i;
+        }
+    }
+
+    /**
+     * @return returns new empty map of measured engine.
+     */
+    private SimpleHashtable<Integer, Integer> newTable() {
+        return engine.equals("CHAINED") ? new SimpleHashtable<>() : SimpleHashtable.openAddressing();
+    }
+
+    @Benchmark
+    public SimpleHashtable<Integer, Integer> putAll() {
+        SimpleHashtable<Integer, Integer> table = newTable();
+        table.putAll(this.keys, this.values);
+        return table;
+    }
+
+    @Benchmark
+    public SimpleHashtable<Integer, Integer> putEach() {
+        SimpleHashtable<Integer, Integer> table = newTable();
+        for (int i = 0; i < this.keys.length; i++)
+            table.put(this.keys[i], this.values[i]);
+        return table;
+    }
+}
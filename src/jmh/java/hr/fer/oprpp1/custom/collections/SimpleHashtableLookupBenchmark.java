@@ -0,0 +1,132 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures average time of single <code>get</code>, <code>containsKey</code>,
+ * <code>put</code> and <code>remove</code> on <code>SimpleHashtable</code>
+ * when searched keys are stored in map (hit workload) and when they are not (miss workload).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleHashtableLookupBenchmark {
+
+    /**
+     * Number of precomputed keys which are searched in turn.
+     */
+    private static final int LOOKUPS = 1 << 16;
+
+    /**
+     * Number of entries stored in map.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * Whether searched keys are stored in map or not.
+     */
+    @Param({"HIT", "MISS"})
+    public String workload;
+
+    /**
+     * Distribution of searched keys.
+     */
+    @Param({"UNIFORM", "SEQUENTIAL", "SKEWED"})
+    public KeyDistribution distribution;
+
+    /**
+     * Storage engine of map.
+     */
+    @Param({"CHAINED", "OPEN_ADDRESSING"})
+    public String engine;
+
+    /**
+     * Map on which operations are measured.
+     */
+    private SimpleHashtable<Integer, Integer> table;
+
+    /**
+     * Keys searched in turn.
+     */
+    private Integer[] lookups;
+
+    /**
+     * Index of next searched key.
+     */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.table = engine.equals("CHAINED") ? new SimpleHashtable<>() : SimpleHashtable.openAddressing();
+        for (int i = 0; i < size; i++)
+            this.table.put(i, i);
+
+        int offset = workload.equals("HIT") ? 0 : size;
+        int[] indices = distribution.indices(LOOKUPS, size, 42);
+        this.lookups = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++)
+            this.lookups[i] = offset + indices[i];
+    }
+
+    /**
+     * @return returns next searched key.
+     */
+    private Integer nextKey() {
+        return this.lookups[this.cursor++ & (LOOKUPS - 1)];
+    }
+
+    @Benchmark
+    public Integer get() {
+        return this.table.get(nextKey());
+    }
+
+    @Benchmark
+    public boolean containsKey() {
+        return this.table.containsKey(nextKey());
+    }
+
+    /**
+     * Puts searched key, on miss workload removes it again so map keeps its size.
+     *
+     * @return returns value returned by put.
+     */
+    @Benchmark
+    public Integer put() {
+        Integer key = nextKey();
+        Integer old = this.table.put(key, key);
+        if (old == null)
+            this.table.remove(key);
+        return old;
+    }
+
+    /**
+     * Removes searched key, on hit workload puts it again so map keeps its size.
+     *
+     * @return returns value returned by remove.
+     */
+    @Benchmark
+    public Integer remove() {
+        Integer key = nextKey();
+        Integer old = this.table.remove(key);
+        if (old != null)
+            this.table.put(key, old);
+        return old;
+    }
+}
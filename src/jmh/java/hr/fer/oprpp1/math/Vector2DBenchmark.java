@@ -0,0 +1,165 @@
+package hr.fer.oprpp1.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures average time of transforming array of <code>Vector2D</code>
+ * in place and into new vectors, and of same transformations in bulk on
+ * <code>Vector2DArray</code>. Chain of translation, rotation and scaling is
+ * compared with same chain concatenated into one <code>AffineTransform2D</code>.
+ * Run with <code>-prof gc</code> to see allocation of methods which create
+ * new vectors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector2DBenchmark {
+
+    /**
+     * Number of transformed vectors.
+     */
+    @Param({"1000", "100000"})
+    public int count;
+
+    /**
+     * Transformed vectors.
+     */
+    private Vector2D[] vectors;
+
+    /**
+     * Same vectors stored in arrays of components.
+     */
+    private Vector2DArray array;
+
+    /**
+     * Vector added to transformed vectors.
+     */
+    private Vector2D offset;
+
+    /**
+     * Translation, rotation and scaling concatenated into one transformation.
+     */
+    private AffineTransform2D transform;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        this.vectors = new Vector2D[count];
+        for (int i = 0; i < count; i++)
+            this.vectors[i] = new Vector2D(random.nextDouble(), random.nextDouble());
+        this.array = new Vector2DArray(this.vectors);
+        this.offset = new Vector2D(0.5, -0.5);
+        this.transform = AffineTransform2D.translation(this.offset).rotate(Math.PI / 6).scale(-1);
+    }
+
+    @Benchmark
+    public void add() {
+        for (Vector2D vector : this.vectors)
+            vector.add(this.offset);
+    }
+
+    @Benchmark
+    public void added(Blackhole blackhole) {
+        for (Vector2D vector : this.vectors)
+            blackhole.consume(vector.added(this.offset));
+    }
+
+    @Benchmark
+    public void rotate() {
+        for (Vector2D vector : this.vectors)
+            vector.rotate(Math.PI / 6);
+    }
+
+    @Benchmark
+    public void rotated(Blackhole blackhole) {
+        for (Vector2D vector : this.vectors)
+            blackhole.consume(vector.rotated(Math.PI / 6));
+    }
+
+    /**
+     * Scales vectors with factor -1 so their size stays same over iterations.
+     */
+    @Benchmark
+    public void scale() {
+        for (Vector2D vector : this.vectors)
+            vector.scale(-1);
+    }
+
+    @Benchmark
+    public void scaled(Blackhole blackhole) {
+        for (Vector2D vector : this.vectors)
+            blackhole.consume(vector.scaled(-1));
+    }
+
+    @Benchmark
+    public void arrayTranslate() {
+        this.array.translate(this.offset);
+    }
+
+    @Benchmark
+    public void arrayRotate() {
+        this.array.rotate(Math.PI / 6);
+    }
+
+    @Benchmark
+    public void arrayScale() {
+        this.array.scale(-1);
+    }
+
+    /**
+     * Translates, rotates and scales every vector, one operation after another.
+     */
+    @Benchmark
+    public void chain() {
+        for (Vector2D vector : this.vectors) {
+            vector.add(this.offset);
+            vector.rotate(Math.PI / 6);
+            vector.scale(-1);
+        }
+    }
+
+    /**
+     * Applies same chain as {@link #chain()} to every vector as one transformation.
+     */
+    @Benchmark
+    public void transform() {
+        for (Vector2D vector : this.vectors)
+            this.transform.apply(vector);
+    }
+
+    /**
+     * Applies same chain as {@link #chain()} to array in three passes.
+     */
+    @Benchmark
+    public void arrayChain() {
+        this.array.translate(this.offset);
+        this.array.rotate(Math.PI / 6);
+        this.array.scale(-1);
+    }
+
+    /**
+     * Applies same chain as {@link #chain()} to array in one pass.
+     */
+    @Benchmark
+    public void arrayTransform() {
+        this.transform.apply(this.array);
+    }
+}
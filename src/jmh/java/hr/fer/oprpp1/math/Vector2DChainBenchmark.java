@@ -0,0 +1,127 @@
+package hr.fer.oprpp1.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures average time of chain of <code>added</code>, <code>rotated</code>
+ * and <code>scaled</code> on <code>Vector2D</code> and on <code>ImmutableVector2D</code>
+ * when only components of final vector are used. Both chains are same, chain
+ * on mutable vectors which also copies final vector is measured separately.
+ * Run with <code>-prof gc</code> and compare <code>gc.alloc.rate.norm</code>
+ * to see how many intermediate vectors are allocated per chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector2DChainBenchmark {
+
+    /**
+     * Number of precomputed start vectors which are used in turn.
+     */
+    private static final int VECTORS = 1024;
+
+    /**
+     * Start vectors of chains.
+     */
+    private Vector2D[] vectors;
+
+    /**
+     * Same start vectors as immutable vectors.
+     */
+    private ImmutableVector2D[] immutableVectors;
+
+    /**
+     * Vector added in chain.
+     */
+    private Vector2D offset;
+
+    /**
+     * Same vector added in chain as immutable vector.
+     */
+    private ImmutableVector2D immutableOffset;
+
+    /**
+     * Index of next start vector.
+     */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        this.vectors = new Vector2D[VECTORS];
+        this.immutableVectors = new ImmutableVector2D[VECTORS];
+        for (int i = 0; i < VECTORS; i++) {
+            this.vectors[i] = new Vector2D(random.nextDouble(), random.nextDouble());
+            this.immutableVectors[i] = ImmutableVector2D.of(this.vectors[i]);
+        }
+        this.offset = new Vector2D(0.5, -0.5);
+        this.immutableOffset = ImmutableVector2D.of(this.offset);
+    }
+
+    /**
+     * @return returns sum of components of final vector of chain on mutable vectors.
+     */
+    @Benchmark
+    public double mutableChain() {
+        Vector2D result = this.vectors[this.cursor++ & (VECTORS - 1)]
+                .added(this.offset).rotated(Math.PI / 6).scaled(2);
+        return result.getX() + result.getY();
+    }
+
+    /**
+     * Same chain as {@link #mutableChain()} ending with <code>copy</code>, which
+     * immutable vectors do not need.
+     *
+     * @return returns sum of components of copy of final vector of chain on mutable vectors.
+     */
+    @Benchmark
+    public double mutableCopyChain() {
+        Vector2D result = this.vectors[this.cursor++ & (VECTORS - 1)]
+                .added(this.offset).rotated(Math.PI / 6).scaled(2).copy();
+        return result.getX() + result.getY();
+    }
+
+    /**
+     * @return returns sum of components of final vector of chain on immutable vectors.
+     */
+    @Benchmark
+    public double immutableChain() {
+        ImmutableVector2D result = this.immutableVectors[this.cursor++ & (VECTORS - 1)]
+                .added(this.immutableOffset).rotated(Math.PI / 6).scaled(2);
+        return result.getX() + result.getY();
+    }
+
+    /**
+     * @return returns final vector of chain on mutable vectors, which escapes.
+     */
+    @Benchmark
+    public Vector2D mutableChainEscaping() {
+        return this.vectors[this.cursor++ & (VECTORS - 1)]
+                .added(this.offset).rotated(Math.PI / 6).scaled(2);
+    }
+
+    /**
+     * @return returns final vector of chain on immutable vectors, which escapes.
+     */
+    @Benchmark
+    public ImmutableVector2D immutableChainEscaping() {
+        return this.immutableVectors[this.cursor++ & (VECTORS - 1)]
+                .added(this.immutableOffset).rotated(Math.PI / 6).scaled(2);
+    }
+}
@@ -1,6 +1,5 @@
 package hr.fer.oprpp1.custom.collections;
 
-import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
@@ -102,15 +101,21 @@ public class ArrayIndexedCollection<T> implements List<T> {
         this.modificationCount++;
         if (value == null)
             throw new NullPointerException("Can not add null into collection");
-        if (this.elements.length == this.size) {
-             T[] tmp = (T[]) Array.newInstance(this.elements.getClass(), this.size * 2);
-            for(int i = 0; i < this.elements.length; i++)
-                tmp[i] = this.elements[i];
-            this.elements = tmp;
-        }
+        ensureCapacity(this.size + 1);
         this.elements[this.size++] = value;
     }
 
+    /**
+     * Makes sure that backing array can hold given number of elements.
+     * Array is at least doubled when it grows so adding stays amortized O(1).
+     *
+     * @param capacity needed capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.elements.length)
+            this.elements = Arrays.copyOf(this.elements, Math.max(capacity, this.elements.length * 2));
+    }
+
     /**
      * Removes all elements from this collection.
      */
@@ -201,17 +206,39 @@ public class ArrayIndexedCollection<T> implements List<T> {
         if (position > this.size || position < 0)
             throw new IndexOutOfBoundsException("You can only insert values at positions from 0 to " + this.size + ". You tried with position " + position + ".");
 
-        if (this.size == 0) {
-            this.add(value);
-        } else {
-            this.add(this.elements[size-1]); //duplicating last element
-
-            for (int i = this.size-2; i > position; i--) {
-                this.elements[i] = this.elements[i-1];//shifting other elements for one position
-            }
+        ensureCapacity(this.size + 1);
+        /*elements from position to end are shifted for one position at once*/
+        System.arraycopy(this.elements, position, this.elements, position + 1, this.size - position);
+        this.elements[position] = value;
+        this.size++;
+    }
 
-            this.elements[position] = value;//overwriting duplicated element With value to insert
+    /**
+     * Inserts all elements of given collection starting at the given position,
+     * in order in which given collection gives them. Elements behind position
+     * are shifted only once.
+     *
+     * @param other collection whose elements will be inserted.
+     * @param position position on which first element will be inserted.
+     * @throws IndexOutOfBoundsException if given position is smaller than 0 or greater than size of this collection.
+     * @throws NullPointerException if given collection contains null, then this collection is not changed.
+     */
+    public void insertAll(Collection<? extends T> other, int position) {
+        if (position > this.size || position < 0)
+            throw new IndexOutOfBoundsException("You can only insert values at positions from 0 to " + this.size + ". You tried with position " + position + ".");
+        Object[] inserted = other.toArray();
+        for (Object value : inserted) {
+            if (value == null)
+                throw new NullPointerException("Can not insert null into collection!");
         }
+        if (inserted.length == 0)
+            return;
+
+        this.modificationCount++;
+        ensureCapacity(this.size + inserted.length);
+        System.arraycopy(this.elements, position, this.elements, position + inserted.length, this.size - position);
+        System.arraycopy(inserted, 0, this.elements, position, inserted.length);
+        this.size += inserted.length;
     }
 
     /**
@@ -243,13 +270,130 @@ public class ArrayIndexedCollection<T> implements List<T> {
         if (index < 0 ||index > this.size-1)
             throw new IndexOutOfBoundsException("You can only remove values at positions from 0 to " + (this.size-1) + ". You tried remove element from position " + index + ".");
 
-        for (int i = index; i < this.size-1; i++) {
-            this.elements[i] = this.elements[i+1];
-        }
+        System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
         this.elements[this.size-1] = null;
         size--;
     }
 
+    /**
+     * Removes elements from index <code>from</code>, inclusive, to index <code>to</code>,
+     * exclusive. Elements behind removed range are shifted only once.
+     *
+     * @param from index of first element to remove.
+     * @param to index after last element to remove.
+     * @throws IndexOutOfBoundsException if <code>from</code> is smaller than 0, <code>to</code> is greater than size of this collection or <code>from</code> is greater than <code>to</code>.
+     */
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > this.size || from > to)
+            throw new IndexOutOfBoundsException("Range must be inside 0 to " + this.size + ". It was from " + from + " to " + to + ".");
+        if (from == to)
+            return;
+
+        this.modificationCount++;
+        System.arraycopy(this.elements, to, this.elements, from, this.size - to);
+        Arrays.fill(this.elements, this.size - (to - from), this.size, null);
+        this.size -= to - from;
+    }
+
+    /**
+     * Removes all elements which satisfy given test in one pass, elements which are
+     * kept are moved towards beginning of array keeping their order. If tester throws
+     * exception, elements which were not tested yet are kept.
+     *
+     * @param tester test for elements.
+     * @return returns true only if some element was removed.
+     */
+    public boolean removeIf(Tester<? super T> tester) {
+        int kept = 0;
+        int tested = 0;
+        try {
+            for (; tested < this.size; tested++) {
+                T element = this.elements[tested];
+                if (!tester.test(element))
+                    this.elements[kept++] = element;
+            }
+        } finally {
+            if (tested < this.size) {
+                System.arraycopy(this.elements, tested, this.elements, kept, this.size - tested);
+                kept += this.size - tested;
+            }
+            Arrays.fill(this.elements, kept, this.size, null);
+            if (kept != this.size) {
+                this.modificationCount++;
+                this.size = kept;
+            }
+        }
+        return tested != kept;
+    }
+
+    /**
+     * Calls <code>processor.process(.)</code> for each element of this collection
+     * in parallel. Backing array is split in index ranges which are processed
+     * by tasks of common fork/join pool.
+     *
+     * @param processor process to be executed for each element, must be safe to call from many threads.
+     * @throws ConcurrentModificationException if collection has been modified while elements were processed.
+     */
+    @Override
+    public void forEachParallel(Processor<? super T> processor) {
+        long savedModificationCount = this.modificationCount;
+        ParallelSupport.forEach(this.elements, 0, this.size, processor);
+        if (savedModificationCount != this.modificationCount)
+            throw new ConcurrentModificationException("Collection has been modified while elements were processed.");
+    }
+
+    /**
+     * Appends all elements from given collection to this collection only if elements satisfy given test.
+     * If given collection is <code>ArrayIndexedCollection</code> its backing array is split in index
+     * ranges which are tested in parallel by tasks of common fork/join pool, elements which satisfy
+     * test are compacted for each range and appended in order of ranges. Other collections are
+     * read in chunks as in {@link Collection#addAllSatisfyingParallel(Collection, Tester)}.
+     * Tester must be safe to call from many threads.
+     *
+     * @param col collection with elements to test and append.
+     * @param tester test for collection elements.
+     * @throws ConcurrentModificationException if given collection has been modified while elements were tested,
+     *                                         or if it is this collection and some element satisfies test,
+     *                                         then this collection is not changed.
+     */
+    @Override
+    public void addAllSatisfyingParallel(Collection<? extends T> col, Tester<? super T> tester) {
+        if (!(col instanceof ArrayIndexedCollection)) {
+            List.super.addAllSatisfyingParallel(col, tester);
+            return;
+        }
+
+        ArrayIndexedCollection<? extends T> source = (ArrayIndexedCollection<? extends T>) col;
+        long savedModificationCount = source.modificationCount;
+        Object[][] passed;
+        try {
+            passed = ParallelSupport.filter(source.elements, 0, source.size, tester);
+        } catch (RuntimeException e) {
+            /*tester may fail on element which was moved or removed by concurrent modification*/
+            if (savedModificationCount != source.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified while elements were tested.", e);
+            throw e;
+        }
+        if (savedModificationCount != source.modificationCount)
+            throw new ConcurrentModificationException("Collection has been modified while elements were tested.");
+
+        int count = 0;
+        for (Object[] part : passed)
+            count += part.length;
+        if (count == 0)
+            return;
+        /*sequential addAllSatisfying fails when it adds into collection which it reads*/
+        if (source == this)
+            throw new ConcurrentModificationException("Can not add elements of collection into itself while they are read.");
+
+        this.modificationCount++;
+        ensureCapacity(this.size + count);
+        for (Object[] part : passed) {
+            System.arraycopy(part, 0, this.elements, this.size, part.length);
+            this.size += part.length;
+        }
+    }
+
     /**
      * Creates new ElementsGetter.
      *
@@ -321,5 +465,42 @@ public class ArrayIndexedCollection<T> implements List<T> {
                 throw new NoSuchElementException("No more elements to get.");
             }
         }
+
+        /**
+         * Copies next elements of collection into given buffer with one check of modification.
+         *
+         * @param buffer array in which elements are copied.
+         * @return returns number of copied elements, 0 if all elements of collection are given.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public int getNextElements(Object[] buffer) {
+            if (savedModificationCount != collection.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since declaration of this ElementsGetter");
+
+            int count = Math.min(buffer.length, collection.size - given);
+            System.arraycopy(collection.elements, given, buffer, 0, count);
+            given += count;
+            return count;
+        }
+
+        /**
+         * Calls <code>p.process(.)</code> for each remaining element directly from backing
+         * array. Modification of collection is checked before every element, so processor
+         * which modifies collection gets no element after modification.
+         *
+         * @param p process to be executed for each remaining element.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public void processRemaining(Processor<? super T> p) {
+            while (given < collection.size) {
+                if (savedModificationCount != collection.modificationCount)
+                    throw new ConcurrentModificationException("Collection has been modified since declaration of this ElementsGetter");
+                p.process(collection.elements[given++]);
+            }
+            if (savedModificationCount != collection.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since declaration of this ElementsGetter");
+        }
     }
 }
@@ -0,0 +1,344 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Model of resizable array-backed collection whose elements are stored in circular buffer.
+ * First element can be anywhere in backing array and elements wrap around its end, so
+ * inserting and removing at beginning or end of collection is amortized O(1). Inserting
+ * and removing in the middle shifts elements of the shorter side of given position.
+ */
+public class CircularArrayIndexedCollection<T> implements List<T> {
+
+    /**
+     * Default capacity of collection.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Counter incremented with each structural change of collection.
+     */
+    private long modificationCount = 0;
+
+    /**
+     * Current size of collection.
+     */
+    private int size;
+
+    /**
+     * Index of first element in backing array.
+     */
+    private int head;
+
+    /**
+     * Array of elements stored in collection. Its length is always power of number 2.
+     */
+    private Object[] elements;
+
+    /**
+     * Constructing new CircularArrayIndexedCollection with capacity set to default capacity which is 16.
+     */
+    public CircularArrayIndexedCollection() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructing new CircularArrayIndexedCollection with capacity of first power
+     * of number 2 which is not smaller than given <code>initialCapacity</code>.
+     *
+     * @param initialCapacity capacity of new collection.
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     */
+    public CircularArrayIndexedCollection(int initialCapacity) {
+        if (initialCapacity < 1)
+            throw new IllegalArgumentException("Capacity must be atleast 1! It was " + initialCapacity + ".");
+        this.elements = new Object[SimpleHashtable.determineCapacity(initialCapacity)];
+    }
+
+    /**
+     * Constructing new CircularArrayIndexedCollection from elements of given collection.
+     *
+     * @param collection collection whose elements will be added to new collection.
+     * @throws NullPointerException if given reference to collection is null
+     */
+    public CircularArrayIndexedCollection(Collection<? extends T> collection) {
+        this(Math.max(collection.size(), 1));
+        this.addAll(collection);
+    }
+
+    /**
+     * Returns index in backing array of element on given position in collection.
+     *
+     * @param position position of element in collection.
+     * @return returns index in backing array.
+     */
+    private int slot(int position) {
+        return (this.head + position) & (this.elements.length - 1);
+    }
+
+    /**
+     * Doubles backing array if it is full. Elements are copied so that first element is on index 0.
+     */
+    private void ensureRoom() {
+        if (this.size < this.elements.length)
+            return;
+        Object[] grown = new Object[this.elements.length * 2];
+        int firstPart = this.elements.length - this.head;
+        System.arraycopy(this.elements, this.head, grown, 0, firstPart);
+        System.arraycopy(this.elements, 0, grown, firstPart, this.head);
+        this.elements = grown;
+        this.head = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds given object at the end of this collection.
+     *
+     * @param value object to add in collection
+     * @throws NullPointerException if given value is <code>null</code>.
+     */
+    @Override
+    public void add(T value) {
+        insert(value, this.size);
+    }
+
+    /**
+     * Returns true only if collection contains given object.
+     *
+     * @param value object to check if it is in this collection.
+     * @return true if collection contains given object and false otherwise.
+     */
+    @Override
+    public boolean contains(Object value) {
+        return indexOf((T) value) >= 0;
+    }
+
+    /**
+     * Returns true only if the collection contains given value and removes
+     * one occurrence of it.
+     *
+     * @param value Object to remove.
+     * @return returns true only if the collection contains given value and removes one occurrence of it.
+     */
+    @Override
+    public boolean remove(T value) {
+        int index = indexOf(value);
+        if (index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Allocates new array with size equals to the size of this collections,
+     * fills it with collection content and returns the array.
+     *
+     * @return new array of objects contained in this collection.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[this.size];
+        int firstPart = Math.min(this.size, this.elements.length - this.head);
+        System.arraycopy(this.elements, this.head, array, 0, firstPart);
+        System.arraycopy(this.elements, 0, array, firstPart, this.size - firstPart);
+        return array;
+    }
+
+    /**
+     * Removes all elements from this collection.
+     */
+    @Override
+    public void clear() {
+        this.modificationCount++;
+        Arrays.fill(this.elements, null);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the object that is stored on given position in this collection.
+     *
+     * @param index position of element.
+     * @return object on given position.
+     * @throws IndexOutOfBoundsException if given <code>index</code> is smaller than 0 or greater than size-1 of this collection.
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index must be between 0 and " + (this.size - 1) + ". It was " + index + ".");
+        return (T) this.elements[slot(index)];
+    }
+
+    /**
+     * Inserts the given value at the given position. Elements on the shorter
+     * side of position are shifted for one place.
+     *
+     * @param value Object to be inserted into collection.
+     * @param position Position on which object will be inserted.
+     * @throws IndexOutOfBoundsException if given position is smaller than 0 or greater than size of this collection.
+     * @throws NullPointerException if given value is null.
+     */
+    @Override
+    public void insert(T value, int position) {
+        if (value == null)
+            throw new NullPointerException("Can not insert null into collection!");
+        if (position > this.size || position < 0)
+            throw new IndexOutOfBoundsException("You can only insert values at positions from 0 to " + this.size + ". You tried with position " + position + ".");
+
+        this.modificationCount++;
+        ensureRoom();
+        int mask = this.elements.length - 1;
+        if (position < this.size - position) {
+            /*elements before position are shifted towards beginning and head moves one place back*/
+            this.head = (this.head - 1) & mask;
+            for (int i = 0; i < position; i++)
+                this.elements[slot(i)] = this.elements[slot(i + 1)];
+        } else {
+            for (int i = this.size; i > position; i--)
+                this.elements[slot(i)] = this.elements[slot(i - 1)];
+        }
+        this.elements[slot(position)] = value;
+        this.size++;
+    }
+
+    /**
+     * Searches the collection and returns the index of the first occurrence
+     * of the given value or -1 if the value is not found
+     *
+     * @param value value to search.
+     * @return index of first occurrence of the given value or -1 if the value is not found
+     */
+    @Override
+    public int indexOf(T value) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.elements[slot(i)].equals(value))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes element at specified <code>index</code> from collection. Elements on the
+     * shorter side of index are shifted for one place.
+     *
+     * @param index Index of element to remove.
+     * @throws IndexOutOfBoundsException if <code>index</code> is smaller than 0 or greater than size-1 of this collection.
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("You can only remove values at positions from 0 to " + (this.size - 1) + ". You tried remove element from position " + index + ".");
+
+        this.modificationCount++;
+        if (index < this.size - index - 1) {
+            /*elements before index are shifted towards end and head moves one place forward*/
+            for (int i = index; i > 0; i--)
+                this.elements[slot(i)] = this.elements[slot(i - 1)];
+            this.elements[this.head] = null;
+            this.head = slot(1);
+        } else {
+            for (int i = index; i < this.size - 1; i++)
+                this.elements[slot(i)] = this.elements[slot(i + 1)];
+            this.elements[slot(this.size - 1)] = null;
+        }
+        this.size--;
+    }
+
+    /**
+     * Creates new ElementsGetter.
+     *
+     * @return returns new ElementsGetter.
+     */
+    @Override
+    public ElementsGetter<T> createElementsGetter() {
+        return new CircularArrayIndexedCollectionElementsGetter<>(this);
+    }
+
+    /**
+     * Model of object which returns elements from collection
+     */
+    private static class CircularArrayIndexedCollectionElementsGetter<T> implements ElementsGetter<T> {
+
+        /**
+         * Reference to collection to get elements.
+         */
+        private final CircularArrayIndexedCollection<T> collection;
+
+        /**
+         * Number of given elements from collection.
+         */
+        private int given;
+
+        /**
+         * Modification count in moment of creating new object of type ElementsGetter.
+         */
+        private final long savedModificationCount;
+
+        /**
+         * Constructs new ElementsGetter.
+         */
+        private CircularArrayIndexedCollectionElementsGetter(CircularArrayIndexedCollection<T> col) {
+            this.collection = col;
+            this.savedModificationCount = col.modificationCount;
+        }
+
+        /**
+         * Throws exception if collection has been modified since declaration of this ElementsGetter.
+         */
+        private void checkModification() {
+            if (this.savedModificationCount != this.collection.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since declaration of this ElementsGetter");
+        }
+
+        /**
+         * Returns true only if there is more elements of collection to get.
+         *
+         * @return returns true only if there is more elements of collection to get, false otherwise.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public boolean hasNextElement() {
+            checkModification();
+            return this.given < this.collection.size;
+        }
+
+        /**
+         * Returns next element from collection.
+         *
+         * @return returns next element from collection.
+         * @throws NoSuchElementException if all elements of collection are given.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public T getNextElement() {
+            if (!hasNextElement())
+                throw new NoSuchElementException("No more elements to get.");
+            return (T) this.collection.elements[this.collection.slot(this.given++)];
+        }
+
+        /**
+         * Copies next elements of collection into given buffer with one check of modification.
+         *
+         * @param buffer array in which elements are copied.
+         * @return returns number of copied elements, 0 if all elements of collection are given.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public int getNextElements(Object[] buffer) {
+            checkModification();
+            int count = Math.min(buffer.length, this.collection.size - this.given);
+            int start = this.collection.slot(this.given);
+            int firstPart = Math.min(count, this.collection.elements.length - start);
+            System.arraycopy(this.collection.elements, start, buffer, 0, firstPart);
+            System.arraycopy(this.collection.elements, 0, buffer, firstPart, count - firstPart);
+            this.given += count;
+            return count;
+        }
+    }
+}
@@ -59,10 +59,19 @@ public interface Collection<T> {
      * @param processor proces to be executed for each element of this collection.
      */
     default void forEach(Processor<? super T> processor) {
-        ElementsGetter<? extends T> getter = this.createElementsGetter();
-        while (getter.hasNextElement()) {
-            processor.process(getter.getNextElement());
-        }
+        this.createElementsGetter().processRemaining(processor);
+    }
+
+    /**
+     * Calls <code>processor.process(.)</code> for each element of this collection
+     * in parallel using common fork/join pool. Elements are read in chunks
+     * which are processed while next chunks are read. Processor must be safe
+     * to call from many threads and elements are not processed in any particular order.
+     *
+     * @param processor process to be executed for each element of this collection.
+     */
+    default void forEachParallel(Processor<? super T> processor) {
+        ParallelSupport.forEach(this.createElementsGetter(), processor);
     }
 
     /**
@@ -84,6 +93,15 @@ public interface Collection<T> {
         other.forEach(processor);
     }
 
+    /**
+     * Returns lazy pipeline of operations over elements of this collection.
+     *
+     * @return returns new pipeline which gives elements of this collection.
+     */
+    default Pipeline<T> pipeline() {
+        return new Pipeline<>(this);
+    }
+
     /**
      * Removes all elements from this collection.
      */
@@ -112,4 +130,17 @@ public interface Collection<T> {
             }
         }
     }
+
+    /**
+     * Appends all elements from given collection to this collection only if elements satisfy given test.
+     * Elements are tested in parallel using common fork/join pool, but they are appended
+     * by calling thread in order in which they are stored in given collection.
+     * Tester must be safe to call from many threads.
+     *
+     * @param col collection with elements to test and append.
+     * @param tester test for collection elements.
+     */
+    default void addAllSatisfyingParallel(Collection<? extends T> col, Tester<? super T> tester) {
+        ParallelSupport.addAllSatisfying(col.createElementsGetter(), tester, this);
+    }
 }
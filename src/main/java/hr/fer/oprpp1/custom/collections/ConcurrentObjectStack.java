@@ -0,0 +1,292 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Model of stack which can be used by many threads at once without locking.
+ * Elements are stored in linked list whose top is changed with single
+ * compare-and-set (Treiber stack).
+ * Stack can optionally be created with elimination array. Then thread whose
+ * compare-and-set on top failed because of contention does not retry at once,
+ * but offers its operation in random slot of elimination array where
+ * push and pop which meet cancel each other without touching top of stack.
+ *
+ * @param <T> type of elements on stack.
+ */
+public class ConcurrentObjectStack<T> {
+
+    /**
+     * Number of times pushing thread waits for popping thread in slot of elimination array.
+     */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /**
+     * Top of stack, <code>null</code> if stack is empty.
+     */
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+
+    /**
+     * Slots in which pushing threads offer their nodes to popping threads,
+     * <code>null</code> if elimination is not used.
+     */
+    private final AtomicReferenceArray<Node<T>> elimination;
+
+    /**
+     * Constructing new empty stack without elimination array.
+     */
+    public ConcurrentObjectStack() {
+        this(0);
+    }
+
+    /**
+     * Constructing new empty stack with elimination array of given size.
+     *
+     * @param eliminationSlots number of slots of elimination array, 0 if elimination is not used.
+     * @throws IllegalArgumentException if given <code>eliminationSlots</code> is negative.
+     */
+    public ConcurrentObjectStack(int eliminationSlots) {
+        if (eliminationSlots < 0)
+            throw new IllegalArgumentException("Number of elimination slots can not be negative! It was " + eliminationSlots + ".");
+        this.elimination = eliminationSlots == 0 ? null : new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * Checks if stack is empty.
+     *
+     * @return <code>true</code> if stack contains no objects and <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return this.top.get() == null;
+    }
+
+    /**
+     * Returns the number of currently stored objects in this stack.
+     *
+     * @return Number of currently stored objects in this stack.
+     */
+    public int size() {
+        Node<T> node = this.top.get();
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Pushes object <code>value</code> on the top of the stack.
+     *
+     * @param value Value to push on this stack.
+     * @throws NullPointerException if given <code>value</code> is <code>null</code>.
+     */
+    public void push(T value) {
+        if (value == null)
+            throw new NullPointerException("Can not push null on stack");
+
+        Node<T> node = new Node<>(value);
+        while (true) {
+            Node<T> current = this.top.get();
+            node.link(current);
+            if (this.top.compareAndSet(current, node))
+                return;
+            if (this.elimination != null && offer(node))
+                return;
+        }
+    }
+
+    /**
+     * Pushes all given values on stack in order of array, so last value of array ends on top of stack.
+     * All values are pushed at once, so other threads never see only some of them on stack.
+     *
+     * @param values values to push on this stack.
+     * @throws NullPointerException if some of given values is <code>null</code>, then stack is not changed.
+     */
+    public void pushAll(T[] values) {
+        for (T value : values) {
+            if (value == null)
+                throw new NullPointerException("Can not push null on stack");
+        }
+        if (values.length == 0)
+            return;
+
+        Node<T> bottom = new Node<>(values[0]);
+        Node<T> chain = bottom;
+        for (int i = 1; i < values.length; i++) {
+            Node<T> node = new Node<>(values[i]);
+            node.next = chain;
+            chain = node;
+        }
+        while (true) {
+            Node<T> current = this.top.get();
+            bottom.link(current);
+            int size = bottom.size + values.length - 1;
+            for (Node<T> node = chain; node != bottom; node = node.next)
+                node.size = size--;
+            if (this.top.compareAndSet(current, chain))
+                return;
+        }
+    }
+
+    /**
+     * Removes last value pushed on stack from stack and returns it.
+     *
+     * @return last value pushed on stack
+     * @throws EmptyStackException if stack is empty
+     */
+    public T pop() {
+        T value = tryPop();
+        if (value == null)
+            throw new EmptyStackException("Stack is empty!");
+
+        return value;
+    }
+
+    /**
+     * Removes last value pushed on stack from stack and returns it.
+     * Unlike {@link #pop()} does not throw exception when stack is empty.
+     *
+     * @return last value pushed on stack or <code>null</code> if stack is empty.
+     */
+    public T tryPop() {
+        while (true) {
+            Node<T> current = this.top.get();
+            if (current == null)
+                return null;
+            if (this.top.compareAndSet(current, current.next))
+                return current.value;
+            if (this.elimination != null) {
+                Node<T> node = take();
+                if (node != null)
+                    return node.value;
+            }
+        }
+    }
+
+    /**
+     * Removes given number of values from top of stack and writes them in given array
+     * in order in which they would be popped, so former top of stack is on index 0.
+     * All values are popped at once.
+     *
+     * @param target array in which popped values are written.
+     * @param n number of values to pop.
+     * @throws EmptyStackException if stack has less than <code>n</code> values, then stack is not changed.
+     * @throws IllegalArgumentException if <code>n</code> is negative or greater than length of given array.
+     */
+    public void popN(T[] target, int n) {
+        if (n < 0 || n > target.length)
+            throw new IllegalArgumentException("Number of popped values must be between 0 and " + target.length + ". It was " + n + ".");
+        if (n == 0)
+            return;
+
+        while (true) {
+            Node<T> current = this.top.get();
+            int size = current == null ? 0 : current.size;
+            if (n > size)
+                throw new EmptyStackException("Stack has only " + size + " elements!");
+            Node<T> last = current;
+            for (int i = 1; i < n; i++)
+                last = last.next;
+            if (this.top.compareAndSet(current, last.next)) {
+                Node<T> node = current;
+                for (int i = 0; i < n; i++, node = node.next)
+                    target[i] = node.value;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns last element placed on stack but does not delete it from stack.
+     *
+     * @return last element placed on stack.
+     * @throws EmptyStackException if stack is empty.
+     */
+    public T peek() {
+        Node<T> current = this.top.get();
+        if (current == null)
+            throw new EmptyStackException("Stack is empty!");
+
+        return current.value;
+    }
+
+    /**
+     * Removes all elements from stack;
+     */
+    public void clear() {
+        this.top.set(null);
+    }
+
+    /**
+     * Offers given node to popping thread in random slot of elimination array
+     * and waits for a while for some thread to take it.
+     *
+     * @param node node which is pushed.
+     * @return <code>true</code> if some popping thread took node and <code>false</code> if push has to be retried.
+     */
+    private boolean offer(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(this.elimination.length());
+        if (!this.elimination.compareAndSet(slot, null, node))
+            return false;
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (this.elimination.get(slot) != node)
+                return true;
+            Thread.onSpinWait();
+        }
+        /*if node can not be withdrawn some popping thread already took it*/
+        return !this.elimination.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes node offered by pushing thread from random slot of elimination array.
+     *
+     * @return returns taken node or <code>null</code> if there was no node in slot.
+     */
+    private Node<T> take() {
+        int slot = ThreadLocalRandom.current().nextInt(this.elimination.length());
+        Node<T> node = this.elimination.get(slot);
+        if (node != null && this.elimination.compareAndSet(slot, node, null))
+            return node;
+        return null;
+    }
+
+    /**
+     * Node of linked list of stack elements. Fields other than value are set only
+     * before node is published with compare-and-set on top of stack.
+     *
+     * @param <T> type of element.
+     */
+    private static final class Node<T> {
+
+        /**
+         * Element stored in node.
+         */
+        private final T value;
+
+        /**
+         * Node below this node.
+         */
+        private Node<T> next;
+
+        /**
+         * Size of stack when this node is on top.
+         */
+        private int size;
+
+        /**
+         * Constructs new node with given value.
+         *
+         * @param value element stored in node.
+         */
+        private Node(T value) {
+            this.value = value;
+        }
+
+        /**
+         * Places this node on top of given node.
+         *
+         * @param next node below this node.
+         */
+        private void link(Node<T> next) {
+            this.next = next;
+            this.size = next == null ? 1 : next.size + 1;
+        }
+    }
+}
@@ -0,0 +1,597 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Model of hash map which can be used by many threads at once.
+ * Keys are divided among segments by their hash codes. Every segment is small
+ * hash map with its own lock which is taken only by operations which modify it,
+ * so writes to different segments do not wait for each other and reads
+ * do not take any lock. Segments are resized independently while other
+ * segments and readers of resized segment keep working.
+ * Iterators of this map are weakly consistent: they never throw
+ * <code>ConcurrentModificationException</code> and may or may not show
+ * modifications made after their construction.
+ *
+ * @param <K> key of entry.
+ * @param <V> value of entry.
+ */
+public class ConcurrentSimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntry<K, V>> {
+
+    /**
+     * Constant default capacity for creating new <code>ConcurrentSimpleHashtable</code>.
+     */
+    private static final int DEFAULT_TABLE_CAPACITY = 16;
+
+    /**
+     * Constant default number of segments.
+     */
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    /**
+     * Segments of this map.
+     */
+    private final Segment<K, V>[] segments;
+
+    /**
+     * Number of bits for which hash code is shifted to get index of segment.
+     */
+    private final int segmentShift;
+
+    /**
+     * Constructs new <code>ConcurrentSimpleHashtable</code>.
+     */
+    public ConcurrentSimpleHashtable() {
+        this(DEFAULT_TABLE_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs new <code>ConcurrentSimpleHashtable</code> with given initial capacity.
+     *
+     * @param initialCapacity initial capacity of new map.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     */
+    public ConcurrentSimpleHashtable(int initialCapacity) {
+        this(initialCapacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs new <code>ConcurrentSimpleHashtable</code> with given initial capacity
+     * and with number of segments equal to first power of number 2 which is not smaller
+     * than <code>concurrencyLevel</code>. That many threads can modify map at the same
+     * time without waiting for each other if they modify different segments.
+     *
+     * @param initialCapacity initial capacity of new map.
+     * @param concurrencyLevel expected number of threads which modify map at the same time.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> or <code>concurrencyLevel</code> is smaller than 1.
+     */
+    public ConcurrentSimpleHashtable(int initialCapacity, int concurrencyLevel) {
+        if (initialCapacity < 1)
+            throw new IllegalArgumentException("Initial capacity must be greater or equal 1.");
+        if (concurrencyLevel < 1 || concurrencyLevel > (1 << 16))
+            throw new IllegalArgumentException("Concurrency level must be between 1 and 65536.");
+
+        int segmentCount = SimpleHashtable.determineCapacity(concurrencyLevel);
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        int segmentCapacity = SimpleHashtable.determineCapacity(Math.max(2, (initialCapacity + segmentCount - 1) / segmentCount));
+        this.segments = (Segment<K, V>[]) new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++)
+            this.segments[i] = new Segment<>(segmentCapacity);
+    }
+
+    /**
+     * Returns hash code of given key with bits mixed so both higher bits,
+     * which select segment, and lower bits, which select slot, depend on whole hash code.
+     *
+     * @param key key of entry.
+     * @return returns mixed hash code of given key.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns segment which holds key with given hash code.
+     *
+     * @param hash mixed hash code of key.
+     * @return returns segment which holds key with given hash code.
+     */
+    private Segment<K, V> segmentFor(int hash) {
+        return this.segments.length == 1 ? this.segments[0] : this.segments[hash >>> this.segmentShift];
+    }
+
+    /**
+     * Adds new entry into collection and returns <code>null</code>.
+     * If given Key already exists in this collection
+     * replaces old value with given value and returns old value.
+     *
+     * @param key key of new entry.
+     * @param value value of new entry.
+     * @return returns <code>null</code> or if given key already exists in this collection returns old value of this key.
+     * @throws NullPointerException if given key is <code>null</code>.
+     */
+    public V put(K key, V value) {
+        if (key == null)
+            throw new NullPointerException("Key can not be null.");
+        int hash = hash(key);
+        return segmentFor(hash).put(key, hash, value);
+    }
+
+    /**
+     * Returns value of entry with given key. Does not take any lock.
+     *
+     * @param key key of entry.
+     * @return returns value of entry with given key or <code>null</code> if this collection do not contains given key.
+     */
+    public V get(Object key) {
+        if (key == null)
+            return null;
+        int hash = hash(key);
+        Node<K, V> node = segmentFor(hash).find(key, hash);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns true only if this collection contains given key. Does not take any lock.
+     *
+     * @param key key to search in collection
+     * @return returns true only if this collection contains given key, false otherwise.
+     */
+    public boolean containsKey(Object key) {
+        if (key == null)
+            return false;
+        int hash = hash(key);
+        return segmentFor(hash).find(key, hash) != null;
+    }
+
+    /**
+     * Returns true if some entry has given value. Does not take any lock.
+     *
+     * @param value searched value.
+     * @return returns true if this collection contains entry with give value, false otherwise.
+     */
+    public boolean containsValue(Object value) {
+        for (Segment<K, V> segment : this.segments) {
+            AtomicReferenceArray<Node<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (Node<K, V> node = table.get(i); node != null; node = node.next) {
+                    V current = node.value;
+                    if (value == null ? current == null : value.equals(current))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes entry with given key. If entry with given key
+     * exists in this collection return value of that entry,
+     * <code>null</code> otherwise.
+     *
+     * @param key key of entry to remove.
+     * @return returns value of removed entry, if entry with given key do not exist in this collection returns <code>null</code>.
+     */
+    public V remove(Object key) {
+        if (key == null)
+            return null;
+        int hash = hash(key);
+        return segmentFor(hash).remove(key, hash);
+    }
+
+    /**
+     * Returns number of elements stored in this collection. If collection
+     * is modified while size is counted result may not be exact.
+     *
+     * @return returns number of elements stored in this collection.
+     */
+    public int size() {
+        long size = 0;
+        for (Segment<K, V> segment : this.segments)
+            size += segment.count;
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns true only if this collection has no elements stored.
+     *
+     * @return returns true only if this collection has no elements stored, false otherwise.
+     */
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : this.segments)
+            if (segment.count != 0)
+                return false;
+        return true;
+    }
+
+    /**
+     * Removes all elements from this collection. Segments are cleared one by one.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : this.segments)
+            segment.clear();
+    }
+
+    /**
+     * Returns string representation of this collection.
+     *
+     * @return returns string representation of this collection.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (SimpleHashtable.TableEntry<K, V> entry : this) {
+            if (sb.length() > 1)
+                sb.append(", ");
+            sb.append(entry);
+        }
+        return sb.append("]").toString();
+    }
+
+    @Override
+    public Iterator<SimpleHashtable.TableEntry<K, V>> iterator() {
+        return new IteratorImpl();
+    }
+
+    /**
+     * Entry stored in segment. Key and hash code never change, value and reference
+     * to next entry are volatile so readers which do not take lock see them.
+     *
+     * @param <K> key of entry.
+     * @param <V> value of entry.
+     */
+    private static final class Node<K, V> {
+
+        /**
+         * Mixed hash code of key.
+         */
+        private final int hash;
+
+        /**
+         * Key of entry.
+         */
+        private final K key;
+
+        /**
+         * Value of entry.
+         */
+        private volatile V value;
+
+        /**
+         * Next entry in same slot.
+         */
+        private volatile Node<K, V> next;
+
+        /**
+         * Constructs new entry.
+         *
+         * @param hash mixed hash code of key.
+         * @param key key of entry.
+         * @param value value of entry.
+         * @param next next entry in same slot.
+         */
+        private Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Part of map with its own table of slots and its own lock taken by modifications.
+     * New table is published with volatile write only after it is completely filled,
+     * so readers see either whole old table or whole new table.
+     *
+     * @param <K> key of entry.
+     * @param <V> value of entry.
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+
+        /**
+         * Serial version of class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Table of slots. Slots are read and written with volatile semantics.
+         */
+        private volatile AtomicReferenceArray<Node<K, V>> table;
+
+        /**
+         * Number of entries in this segment.
+         */
+        private volatile int count;
+
+        /**
+         * Constructs new segment with given capacity.
+         *
+         * @param capacity number of slots, power of number 2.
+         */
+        private Segment(int capacity) {
+            this.table = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * Returns entry with given key without taking lock.
+         *
+         * @param key key of entry.
+         * @param hash mixed hash code of key.
+         * @return returns entry with given key or <code>null</code> if segment do not contain given key.
+         */
+        private Node<K, V> find(Object key, int hash) {
+            AtomicReferenceArray<Node<K, V>> table = this.table;
+            for (Node<K, V> node = table.get(hash & (table.length() - 1)); node != null; node = node.next) {
+                if (node.hash == hash && (node.key == key || node.key.equals(key)))
+                    return node;
+            }
+            return null;
+        }
+
+        /**
+         * Adds new entry or replaces value of existing entry under lock of this segment.
+         *
+         * @param key key of entry.
+         * @param hash mixed hash code of key.
+         * @param value value of entry.
+         * @return returns old value of key or <code>null</code> if key was not in segment.
+         */
+        private V put(K key, int hash, V value) {
+            lock();
+            try {
+                if (this.count >= this.table.length() * 3 / 4)
+                    rehash();
+                AtomicReferenceArray<Node<K, V>> table = this.table;
+                int index = hash & (table.length() - 1);
+                Node<K, V> head = table.get(index);
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    if (node.hash == hash && (node.key == key || node.key.equals(key))) {
+                        V returnValue = node.value;
+                        node.value = value;
+                        return returnValue;
+                    }
+                }
+                table.set(index, new Node<>(hash, key, value, head));
+                this.count++;
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Replaces value of existing entry under lock of this segment. Key which is
+         * not in segment is not added.
+         *
+         * @param key key of entry.
+         * @param hash mixed hash code of key.
+         * @param value new value of entry.
+         * @return returns true only if entry with given key was found and its value replaced.
+         */
+        private boolean replace(K key, int hash, V value) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> table = this.table;
+                for (Node<K, V> node = table.get(hash & (table.length() - 1)); node != null; node = node.next) {
+                    if (node.hash == hash && (node.key == key || node.key.equals(key))) {
+                        node.value = value;
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Removes entry with given key under lock of this segment. Entry is unlinked
+         * from its slot, readers which already reached it still continue to its next entry.
+         *
+         * @param key key of entry.
+         * @param hash mixed hash code of key.
+         * @return returns value of removed entry or <code>null</code> if key was not in segment.
+         */
+        private V remove(Object key, int hash) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> table = this.table;
+                int index = hash & (table.length() - 1);
+                for (Node<K, V> previous = null, node = table.get(index); node != null; previous = node, node = node.next) {
+                    if (node.hash != hash || (node.key != key && !node.key.equals(key)))
+                        continue;
+                    if (previous == null)
+                        table.set(index, node.next);
+                    else
+                        previous.next = node.next;
+                    this.count--;
+                    return node.value;
+                }
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Removes all entries from this segment.
+         */
+        private void clear() {
+            lock();
+            try {
+                this.table = new AtomicReferenceArray<>(this.table.length());
+                this.count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Doubles number of slots of this segment. Readers may be walking old table
+         * so its entries are not relinked. Last run of entries of every slot which
+         * go to same new slot is reused and entries before it are copied.
+         */
+        private void rehash() {
+            AtomicReferenceArray<Node<K, V>> oldTable = this.table;
+            int oldCapacity = oldTable.length();
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(oldCapacity * 2);
+            int mask = oldCapacity * 2 - 1;
+            for (int i = 0; i < oldCapacity; i++) {
+                Node<K, V> head = oldTable.get(i);
+                if (head == null)
+                    continue;
+                Node<K, V> lastRun = head;
+                int lastIndex = head.hash & mask;
+                for (Node<K, V> node = head.next; node != null; node = node.next) {
+                    int index = node.hash & mask;
+                    if (index != lastIndex) {
+                        lastIndex = index;
+                        lastRun = node;
+                    }
+                }
+                newTable.set(lastIndex, lastRun);
+                for (Node<K, V> node = head; node != lastRun; node = node.next) {
+                    int index = node.hash & mask;
+                    newTable.set(index, new Node<>(node.hash, node.key, node.value, newTable.get(index)));
+                }
+            }
+            this.table = newTable;
+        }
+    }
+
+    /**
+     * Entry given to users of this collection. Setting value of this entry
+     * replaces value of key in this collection while key is still in it.
+     */
+    private final class EntryView extends SimpleHashtable.TableEntry<K, V> {
+
+        /**
+         * Constructs new entry.
+         *
+         * @param key key of entry.
+         * @param value value of entry.
+         */
+        private EntryView(K key, V value) {
+            super(key, value, null);
+        }
+
+        /**
+         * Sets value of this entry and of key of this entry in collection, under lock
+         * of segment which holds key. If key has been removed from collection since
+         * this entry was returned, call has no effect and key is not added again.
+         *
+         * @param value new value of this entry.
+         */
+        @Override
+        public void setValue(V value) {
+            int hash = hash(getKey());
+            if (segmentFor(hash).replace(getKey(), hash, value))
+                super.setValue(value);
+        }
+    }
+
+    /**
+     * Weakly consistent iterator which walks segments one by one and
+     * in every segment walks table which segment had when iterator reached it.
+     */
+    private class IteratorImpl implements Iterator<SimpleHashtable.TableEntry<K, V>> {
+
+        /**
+         * Index of next segment to walk.
+         */
+        private int segmentIndex;
+
+        /**
+         * Table of segment which is walked.
+         */
+        private AtomicReferenceArray<Node<K, V>> table;
+
+        /**
+         * Index of next slot to walk in <code>table</code>.
+         */
+        private int slot;
+
+        /**
+         * Next entry to give.
+         */
+        private Node<K, V> next;
+
+        /**
+         * Last given entry or <code>null</code> if there is no entry to remove.
+         */
+        private Node<K, V> last;
+
+        /**
+         * Constructs new iterator
+         */
+        private IteratorImpl() {
+            advance();
+        }
+
+        /**
+         * Finds next entry to give.
+         */
+        private void advance() {
+            if (this.next != null && (this.next = this.next.next) != null)
+                return;
+            while (true) {
+                if (this.table != null && this.slot < this.table.length()) {
+                    if ((this.next = this.table.get(this.slot++)) != null)
+                        return;
+                } else if (this.segmentIndex < ConcurrentSimpleHashtable.this.segments.length) {
+                    this.table = ConcurrentSimpleHashtable.this.segments[this.segmentIndex++].table;
+                    this.slot = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return returns true if the iteration has more elements.
+         */
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return returns the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        @Override
+        public SimpleHashtable.TableEntry<K, V> next() {
+            if (this.next == null)
+                throw new NoSuchElementException("No more elements.");
+            this.last = this.next;
+            advance();
+            return new EntryView(this.last.key, this.last.value);
+        }
+
+        /**
+         * Removes from the underlying collection the key of
+         * last element returned by this iterator.
+         *
+         * @throws IllegalStateException if the next method has not yet been called, or the remove method has already been called after the last call to the next method.
+         */
+        @Override
+        public void remove() {
+            if (this.last == null)
+                throw new IllegalStateException("Can not invoke method remove if the next method has not yet been called.");
+            ConcurrentSimpleHashtable.this.remove(this.last.key);
+            this.last = null;
+        }
+    }
+}
@@ -22,6 +22,35 @@ public interface ElementsGetter<T> {
      */
     T getNextElement();
 
+    /**
+     * Number of elements which batch readers of collection get at once with {@link #getNextElements(Object[])}.
+     */
+    int PROCESS_BATCH_SIZE = 64;
+
+    /**
+     * Copies next elements of collection into given buffer, starting from its first index,
+     * until buffer is full or there are no more elements.
+     *
+     * @param buffer array in which elements are copied.
+     * @return returns number of copied elements, 0 if all elements of collection are given.
+     * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+     */
+    default int getNextElements(Object[] buffer) {
+        int count = 0;
+        while (count < buffer.length && hasNextElement()) {
+            buffer[count++] = getNextElement();
+        }
+        return count;
+    }
+
+    /**
+     * Calls <code>p.process(.)</code> for each remaining element of collection.
+     * Elements are got one by one, so modification of collection made by processor
+     * is detected before next element is given to processor.
+     *
+     * @param p process to be executed for each remaining element.
+     * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+     */
     default void processRemaining(Processor<? super T> p) {
         while (hasNextElement()) {
             p.process(getNextElement());
@@ -0,0 +1,61 @@
+package hr.fer.oprpp1.custom.collections;
+
+/**
+ * Model of object which determines hash code and equality of keys
+ * stored in hash map. Using custom strategy allows keys such as arrays
+ * or case insensitive strings to be stored without wrapping them in
+ * objects which override <code>hashCode</code> and <code>equals</code>.
+ *
+ * @param <T> type of keys.
+ */
+public interface HashingStrategy<T> {
+
+    /**
+     * Returns hash code of given key. Keys which are equal
+     * by this strategy must have same hash code.
+     *
+     * @param key key which hash code is calculated, never <code>null</code>.
+     * @return returns hash code of given key.
+     */
+    int hashCode(T key);
+
+    /**
+     * Returns true only if given keys are equal.
+     *
+     * @param first first key, never <code>null</code>.
+     * @param second second key, never <code>null</code>.
+     * @return returns true if given keys are equal, false otherwise.
+     */
+    boolean equals(T first, T second);
+
+    /**
+     * Returns strategy which uses <code>hashCode</code> and <code>equals</code> of keys.
+     *
+     * @param <T> type of keys.
+     * @return returns strategy which uses <code>hashCode</code> and <code>equals</code> of keys.
+     */
+    static <T> HashingStrategy<T> defaultStrategy() {
+        return (HashingStrategy<T>) DefaultStrategy.INSTANCE;
+    }
+
+    /**
+     * Strategy which uses <code>hashCode</code> and <code>equals</code> of keys.
+     */
+    final class DefaultStrategy implements HashingStrategy<Object> {
+
+        /**
+         * Single instance of this strategy.
+         */
+        private static final DefaultStrategy INSTANCE = new DefaultStrategy();
+
+        @Override
+        public int hashCode(Object key) {
+            return key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object first, Object second) {
+            return first == second || first.equals(second);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Arrays;
+
+/**
+ * Model of stack of <code>int</code> values. Values are stored in array of
+ * primitive values, so pushing and popping does not box values and allocates
+ * nothing unless array has to grow.
+ */
+public class IntStack {
+
+    /**
+     * Default capacity of stack.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Array of values on stack, value on top of stack is on index <code>size-1</code>.
+     */
+    private int[] elements;
+
+    /**
+     * Number of values on stack.
+     */
+    private int size;
+
+    /**
+     * Constructing new empty stack
+     */
+    public IntStack() {
+        this.elements = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Checks if stack is empty.
+     *
+     * @return <code>true</code> if stack contains no values and <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of currently stored values in this stack.
+     *
+     * @return Number of currently stored values in this stack.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Pushes given value on the top of the stack.
+     *
+     * @param value Value to push on this stack.
+     */
+    public void push(int value) {
+        if (this.size == this.elements.length)
+            this.elements = Arrays.copyOf(this.elements, this.size * 2);
+        this.elements[this.size++] = value;
+    }
+
+    /**
+     * Removes last value pushed on stack from stack and returns it.
+     *
+     * @return last value pushed on stack
+     * @throws EmptyStackException if stack is empty
+     */
+    public int pop() {
+        if (this.size == 0)
+            throw new EmptyStackException("Stack is empty!");
+
+        return this.elements[--this.size];
+    }
+
+    /**
+     * Returns last value placed on stack but does not delete it from stack.
+     *
+     * @return last value placed on stack.
+     * @throws EmptyStackException if stack is empty.
+     */
+    public int peek() {
+        if (this.size == 0)
+            throw new EmptyStackException("Stack is empty!");
+
+        return this.elements[this.size - 1];
+    }
+
+    /**
+     * Removes all values from stack;
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+}
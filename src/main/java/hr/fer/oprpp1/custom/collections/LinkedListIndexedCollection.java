@@ -72,6 +72,17 @@ public class LinkedListIndexedCollection<T> implements List<T> {
      */
     private long modificationCount = 0;
 
+    /**
+     * Last node accessed by index or <code>null</code> if there is no such node.
+     * Walks by index start from this node when it is nearer than first or last node.
+     */
+    private ListNode<T> finger;
+
+    /**
+     * Index of <code>finger</code> node.
+     */
+    private int fingerIndex;
+
     /**
      * Constructing new empty LinkedListIndexedCollection
      */
@@ -129,9 +140,66 @@ public class LinkedListIndexedCollection<T> implements List<T> {
         this.modificationCount++;
         this.first = null;
         this.last = first;
+        this.finger = null;
         this.size = 0;
     }
 
+    /**
+     * Returns node on given index. Walk starts from first node, last node or last
+     * accessed node, whichever is nearest, and found node becomes last accessed node.
+     *
+     * @param index index of node, between 0 and size-1.
+     * @return returns node on given index.
+     */
+    private ListNode<T> node(int index) {
+        ListNode<T> current = this.first;
+        int currentIndex = 0;
+        if (this.size - 1 - index < index) {
+            current = this.last;
+            currentIndex = this.size - 1;
+        }
+        if (this.finger != null && Math.abs(this.fingerIndex - index) < Math.abs(currentIndex - index)) {
+            current = this.finger;
+            currentIndex = this.fingerIndex;
+        }
+        for (; currentIndex < index; currentIndex++)
+            current = current.next;
+        for (; currentIndex > index; currentIndex--)
+            current = current.previous;
+        this.finger = current;
+        this.fingerIndex = index;
+        return current;
+    }
+
+    /**
+     * Unlinks given node from list. Node after it, or before it if it was last,
+     * becomes last accessed node.
+     *
+     * @param node node to unlink.
+     * @param index index of node.
+     */
+    private void unlink(ListNode<T> node, int index) {
+        this.modificationCount++;
+        /*first and last node have no neighbour on one side*/
+        if (node.previous == null)
+            this.first = node.next;
+        else
+            node.previous.next = node.next;
+        if (node.next == null)
+            this.last = node.previous;
+        else
+            node.next.previous = node.previous;
+        this.size--;
+
+        if (node.next != null) {
+            this.finger = node.next;
+            this.fingerIndex = index;
+        } else {
+            this.finger = node.previous;
+            this.fingerIndex = index - 1;
+        }
+    }
+
 
 
     /**
@@ -170,12 +238,10 @@ public class LinkedListIndexedCollection<T> implements List<T> {
      */
     @Override
     public boolean remove(T value) {
-        this.modificationCount++;
-        if (this.size == 0)
-            return false;
-        for (ListNode<T> current = first; current != null; current = current.next) {
+        int index = 0;
+        for (ListNode<T> current = first; current != null; current = current.next, index++) {
             if (current.value.equals(value)) {
-                this.remove(this.indexOf(current.value));
+                this.unlink(current, index);
                 return true;
             }
         }
@@ -213,11 +279,7 @@ public class LinkedListIndexedCollection<T> implements List<T> {
         if (index < 0 || index > this.size-1)
             throw new IndexOutOfBoundsException("There is no element at position " + index + "!");
 
-        ListNode<T> current = this.first;
-        for (int i = 0; i < index; i ++) {
-           current = current.next;
-        }
-        return current.value;
+        return this.node(index).value;
     }
 
     /**
@@ -236,19 +298,23 @@ public class LinkedListIndexedCollection<T> implements List<T> {
         if (position < 0 || position > this.size)
             throw new IndexOutOfBoundsException("Can not insert element on position " + position + "!");
 
-        if (this.size == 0) {
+        if (position == this.size) {
             this.add(value);
-        } else {
-            ListNode<T> current = this.first;
+        } else if (position == 0) {
             ListNode<T> newNode = new ListNode<>(value);
-            for (int i = 0; i < position-1; i++) {
-                current = current.next;
-            }
-            newNode.previous = current;
-            newNode.next = current.next;
-            current.next = newNode;
-            newNode.next.previous = newNode;
+            newNode.next = this.first;
+            this.first.previous = newNode;
+            this.first = newNode;
             this.size++;
+            this.fingerIndex++;
+        } else {
+            /*new node is linked before node which is now on given position*/
+            ListNode<T> current = this.node(position);
+            ListNode<T> newNode = new ListNode<>(current.previous, current, value);
+            current.previous.next = newNode;
+            current.previous = newNode;
+            this.size++;
+            this.finger = newNode;
         }
 
     }
@@ -264,7 +330,7 @@ public class LinkedListIndexedCollection<T> implements List<T> {
     public int indexOf(T value) {
         ListNode<T> current;
         int index;
-        for (current = this.first, index = 0; current.next != null; current = current.next, index++) {
+        for (current = this.first, index = 0; current != null; current = current.next, index++) {
             if (current.value.equals(value))
                 return index;
         }
@@ -280,21 +346,10 @@ public class LinkedListIndexedCollection<T> implements List<T> {
      */
     @Override
     public void remove(int index) {
-        this.modificationCount++;
-
         if (index < 0 || index >= this.size)
             throw new IndexOutOfBoundsException("Can not remove element from position " + index + ".");
 
-        if (this.size == 1) {
-            this.clear();
-        } else {
-            ListNode<T> current;
-            for (current = this.first; index > 0; current = current.next, index--) {
-            }
-            current.previous.next = current.next;
-            current.next.previous = current.previous;
-            this.size--;
-        }
+        this.unlink(this.node(index), index);
     }
 
     /**
@@ -368,5 +423,22 @@ public class LinkedListIndexedCollection<T> implements List<T> {
                 throw new NoSuchElementException("No more elements to get.");
             }
         }
+
+        /**
+         * Copies next elements of collection into given buffer with one check of modification.
+         *
+         * @param buffer array in which elements are copied.
+         * @return returns number of copied elements, 0 if all elements of collection are given.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public int getNextElements(Object[] buffer) {
+            if (this.savedModificationCount != collection.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since declaration of this ElementsGetter.");
+            int count = 0;
+            for (; count < buffer.length && this.nextToGet != null; this.nextToGet = this.nextToGet.next)
+                buffer[count++] = this.nextToGet.value;
+            return count;
+        }
     }
 }
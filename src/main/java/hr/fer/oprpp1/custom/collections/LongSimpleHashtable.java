@@ -0,0 +1,530 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Model of hash map with keys of primitive type <code>long</code>. Keys are stored
+ * in array of type <code>long[]</code> and values in parallel array using open
+ * addressing with linear probing, so keys are never boxed and no entry object
+ * is allocated per stored key. Slot with key 0 is considered free, so entry
+ * with key 0 is stored outside arrays.
+ *
+ * @param <V> value of entry.
+ */
+public class LongSimpleHashtable<V> {
+
+    /**
+     * Constant default capacity for creating new <code>LongSimpleHashtable</code>.
+     */
+    private static final int DEFAULT_TABLE_CAPACITY = 16;
+
+    /**
+     * Smallest capacity of arrays. With load factor of 75 percent at least
+     * one slot is always left free so probing of absent keys always ends.
+     */
+    private static final int MINIMAL_CAPACITY = 4;
+
+    /**
+     * Keys of stored entries. Free slot holds key 0.
+     */
+    private long[] keys;
+
+    /**
+     * Values of stored entries. Value on some index belongs to key on same index.
+     */
+    private Object[] values;
+
+    /**
+     * True if this collection contains entry with key 0.
+     */
+    private boolean containsZeroKey;
+
+    /**
+     * Value of entry with key 0.
+     */
+    private V zeroValue;
+
+    /**
+     * Number of entries currently stored in this collection.
+     */
+    private int size;
+
+    /**
+     * Counter of structural modifications over this collection.
+     */
+    private int modificationCount;
+
+    /**
+     * Constructs new <code>LongSimpleHashtable</code>
+     */
+    public LongSimpleHashtable() {
+        this(DEFAULT_TABLE_CAPACITY);
+    }
+
+    /**
+     * Constructs new <code>LongSimpleHashtable</code> with given initial capacity
+     * of first bigger power of number 2 if <code>initialCapacity</code> is not
+     * power of number 2.
+     *
+     * @param initialCapacity initial capacity for new <code>LongSimpleHashtable</code>.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     */
+    public LongSimpleHashtable(int initialCapacity) {
+        if (initialCapacity < 1)
+            throw new IllegalArgumentException("Initial capacity must be greater or equal 1.");
+        int capacity = SimpleHashtable.determineCapacity(Math.max(initialCapacity, MINIMAL_CAPACITY));
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Determines on which index of arrays key will be stored.
+     *
+     * @param key key of entry.
+     * @param mask number of slots minus one.
+     * @return returns index of slot on which key will be stored.
+     */
+    private static int index(long key, int mask) {
+        long l = key * 0x9E3779B97F4A7C15L;
+        int h = (int) (l ^ (l >>> 32));
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Adds new entry into collection and returns <code>null</code>.
+     * If given Key already exists in this collection
+     * replaces old value with given value and returns old value.
+     *
+     * @param key key of new entry.
+     * @param value value of new entry.
+     * @return returns <code>null</code> or if given key already exists in this collection returns old value of this key.
+     */
+    public V put(long key, V value) {
+        if (key == 0) {
+            V returnValue = this.zeroValue;
+            this.zeroValue = value;
+            if (!this.containsZeroKey) {
+                this.containsZeroKey = true;
+                this.size++;
+                this.modificationCount++;
+            }
+            return returnValue;
+        }
+        if (((this.size * 1.0) / this.keys.length) >= 0.75) {
+            doubleCapacity();
+            this.modificationCount++;
+        }
+
+        int mask = this.keys.length - 1;
+        int slot = index(key, mask);
+        for (long current = this.keys[slot]; current != 0; current = this.keys[slot]) {
+            if (current == key) {
+                V returnValue = (V) this.values[slot];
+                this.values[slot] = value;
+                return returnValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+        this.modificationCount++;
+        return null;
+    }
+
+    /**
+     * Doubles capacity of arrays of keys and values and
+     * moves all stored entries in new arrays.
+     */
+    private void doubleCapacity() {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new Object[oldValues.length * 2];
+        int mask = this.keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0)
+                continue;
+            int slot = index(oldKeys[i], mask);
+            while (this.keys[slot] != 0)
+                slot = (slot + 1) & mask;
+            this.keys[slot] = oldKeys[i];
+            this.values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Returns index of slot in which given key is stored.
+     *
+     * @param key searched key, not 0.
+     * @return returns index of slot with given key or -1 if this collection do not contain given key.
+     */
+    private int slotOf(long key) {
+        int mask = this.keys.length - 1;
+        int slot = index(key, mask);
+        for (long current = this.keys[slot]; current != 0; current = this.keys[slot]) {
+            if (current == key)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns value of entry with given key.
+     *
+     * @param key key of entry.
+     * @return returns value of entry with given key or <code>null</code> if this collection do not contains given key.
+     */
+    public V get(long key) {
+        if (key == 0)
+            return this.zeroValue;
+        int slot = slotOf(key);
+        return slot < 0 ? null : (V) this.values[slot];
+    }
+
+    /**
+     * Returns true only if this collection contains given key
+     *
+     * @param key key to search in collection
+     * @return returns true only if this collection contains given key, false otherwise.
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? this.containsZeroKey : slotOf(key) >= 0;
+    }
+
+    /**
+     * Returns true when finds first occurrence of given value.
+     *
+     * @param value searched value.
+     * @return returns true if this collection contains entry with give value, false otherwise.
+     */
+    public boolean containsValue(Object value) {
+        if (this.containsZeroKey && (value == null ? this.zeroValue == null : value.equals(this.zeroValue)))
+            return true;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == 0)
+                continue;
+            if (value == null ? this.values[i] == null : value.equals(this.values[i]))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes entry with given key. If entry with given key
+     * exists in this collection return value of that entry,
+     * <code>null</code> otherwise.
+     *
+     * @param key key of entry to remove.
+     * @return returns value of removed entry, if entry with given key do not exist in this collection returns <code>null</code>.
+     */
+    public V remove(long key) {
+        if (key == 0) {
+            if (!this.containsZeroKey)
+                return null;
+            V returnValue = this.zeroValue;
+            this.containsZeroKey = false;
+            this.zeroValue = null;
+            this.size--;
+            this.modificationCount++;
+            return returnValue;
+        }
+        int slot = slotOf(key);
+        if (slot < 0)
+            return null;
+        V returnValue = (V) this.values[slot];
+        removeSlot(slot, null);
+        return returnValue;
+    }
+
+    /**
+     * Removes entry from given slot and shifts following entries of same
+     * cluster backwards so no entry becomes unreachable from its home slot.
+     *
+     * @param slot index of slot to empty.
+     * @param iterator iterator which remembers entries moved from beginning of arrays
+     *                 to slot behind them, or <code>null</code> if such entries
+     *                 do not need to be remembered.
+     */
+    private void removeSlot(int slot, EntryIterator iterator) {
+        int mask = this.keys.length - 1;
+        int free = slot;
+        for (int next = (free + 1) & mask; this.keys[next] != 0; next = (next + 1) & mask) {
+            int home = index(this.keys[next], mask);
+            /*entry can be moved only if its home slot is not between free slot and its current slot*/
+            boolean movable = free <= next ? (home <= free || home > next) : (home <= free && home > next);
+            if (!movable)
+                continue;
+            this.keys[free] = this.keys[next];
+            this.values[free] = this.values[next];
+            if (iterator != null && next < free)
+                iterator.rememberWrapped(this.keys[free]);
+            free = next;
+        }
+        this.keys[free] = 0;
+        this.values[free] = null;
+        this.size--;
+        this.modificationCount++;
+    }
+
+    /**
+     * Returns number of elements currently stored in this collection.
+     *
+     * @return returns number of elements currently stored in this collection.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns true only if this collection has no elements stored.
+     *
+     * @return returns true only if this collection has no elements stored, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all elements from this collection
+     */
+    public void clear() {
+        Arrays.fill(this.keys, 0);
+        Arrays.fill(this.values, null);
+        this.containsZeroKey = false;
+        this.zeroValue = null;
+        this.size = 0;
+        this.modificationCount++;
+    }
+
+    /**
+     * Returns new array of all keys of this collection.
+     *
+     * @return returns new array of all keys of this collection.
+     */
+    public long[] keys() {
+        long[] array = new long[this.size];
+        int index = 0;
+        if (this.containsZeroKey)
+            array[index++] = 0;
+        for (long key : this.keys)
+            if (key != 0)
+                array[index++] = key;
+        return array;
+    }
+
+    /**
+     * Returns string representation of this collection.
+     *
+     * @return returns string representation of this collection.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        if (this.containsZeroKey)
+            sb.append(0).append("=").append(this.zeroValue);
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == 0)
+                continue;
+            if (sb.length() > 1)
+                sb.append(", ");
+            sb.append(this.keys[i]).append("=").append(this.values[i]);
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Creates new iterator over entries of this collection.
+     *
+     * @return returns new iterator over entries of this collection.
+     */
+    public EntryIterator iterator() {
+        return new EntryIterator();
+    }
+
+    /**
+     * Iterator over entries of this collection which does not box keys and does
+     * not allocate objects for entries. Method <code>next</code> moves iterator to
+     * next entry and returns its key, value of that entry is available through
+     * <code>getValue</code> and <code>setValue</code>.
+     * Slots are visited from the last one towards the first one so backward shifting
+     * on removal moves entries only into already visited slots. Keys moved from
+     * beginning of arrays over their end are remembered and given after all slots.
+     */
+    public class EntryIterator {
+
+        /**
+         * Index of slot of current entry, length of arrays for entry with key 0
+         * and -1 for remembered entries.
+         */
+        private int slot;
+
+        /**
+         * Key of current entry.
+         */
+        private long key;
+
+        /**
+         * True if current entry exists and is not removed.
+         */
+        private boolean hasCurrent;
+
+        /**
+         * Keys which were moved in already visited slots by removal.
+         * Created only when first such key exists.
+         */
+        private long[] wrapped;
+
+        /**
+         * Number of remembered keys.
+         */
+        private int wrappedSize;
+
+        /**
+         * Number of given remembered keys.
+         */
+        private int wrappedGiven;
+
+        /**
+         * Number of entries left to give.
+         */
+        private int remaining;
+
+        /**
+         * Count of modifications over collection in the moment of constructing this iterator.
+         */
+        private int savedModificationCount;
+
+        /**
+         * Constructs new iterator
+         */
+        private EntryIterator() {
+            this.slot = LongSimpleHashtable.this.keys.length + 1;
+            this.remaining = LongSimpleHashtable.this.size;
+            this.savedModificationCount = LongSimpleHashtable.this.modificationCount;
+        }
+
+        /**
+         * Throws exception if collection has been modified since construction of this iterator.
+         */
+        private void checkModification() {
+            if (savedModificationCount != LongSimpleHashtable.this.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since construction of this iterator.");
+        }
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return returns true if the iteration has more elements.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        public boolean hasNext() {
+            checkModification();
+            return this.remaining > 0;
+        }
+
+        /**
+         * Moves to the next entry in the iteration and returns its key.
+         *
+         * @return returns key of the next entry in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        public long next() {
+            if (!hasNext())
+                throw new NoSuchElementException("No more elements.");
+
+            this.remaining--;
+            this.hasCurrent = true;
+            long[] keys = LongSimpleHashtable.this.keys;
+            if (this.slot > keys.length) {
+                this.slot = keys.length;
+                if (LongSimpleHashtable.this.containsZeroKey) {
+                    this.key = 0;
+                    return this.key;
+                }
+            }
+            while (--this.slot >= 0) {
+                if (keys[this.slot] != 0) {
+                    this.key = keys[this.slot];
+                    return this.key;
+                }
+            }
+            this.slot = -1;
+            this.key = this.wrapped[this.wrappedGiven++];
+            return this.key;
+        }
+
+        /**
+         * Returns value of current entry.
+         *
+         * @return returns value of entry whose key was returned by last call of next.
+         * @throws IllegalStateException if the next method has not yet been called or current entry has been removed.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        public V getValue() {
+            checkCurrent();
+            if (this.slot >= 0 && this.slot < LongSimpleHashtable.this.keys.length)
+                return (V) LongSimpleHashtable.this.values[this.slot];
+            return LongSimpleHashtable.this.get(this.key);
+        }
+
+        /**
+         * Sets value of current entry.
+         *
+         * @param value new value of current entry.
+         * @throws IllegalStateException if the next method has not yet been called or current entry has been removed.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        public void setValue(V value) {
+            checkCurrent();
+            if (this.slot >= 0 && this.slot < LongSimpleHashtable.this.keys.length)
+                LongSimpleHashtable.this.values[this.slot] = value;
+            else
+                LongSimpleHashtable.this.put(this.key, value);
+        }
+
+        /**
+         * Removes from the underlying collection
+         * the last element returned by this iterator.
+         * This method can be called only once per call to next().
+         *
+         * @throws IllegalStateException if the next method has not yet been called, or the remove method has already been called after the last call to the next method.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        public void remove() {
+            checkCurrent();
+            if (this.key == 0 || this.slot < 0)
+                LongSimpleHashtable.this.remove(this.key);
+            else
+                LongSimpleHashtable.this.removeSlot(this.slot, this);
+            this.hasCurrent = false;
+            this.savedModificationCount = LongSimpleHashtable.this.modificationCount;
+        }
+
+        /**
+         * Throws exception if there is no current entry.
+         */
+        private void checkCurrent() {
+            checkModification();
+            if (!this.hasCurrent)
+                throw new IllegalStateException("There is no current entry, the next method has not yet been called or entry has been removed.");
+        }
+
+        /**
+         * Remembers key moved in already visited slot.
+         *
+         * @param key moved key.
+         */
+        private void rememberWrapped(long key) {
+            if (this.wrapped == null)
+                this.wrapped = new long[4];
+            else if (this.wrappedSize == this.wrapped.length)
+                this.wrapped = Arrays.copyOf(this.wrapped, this.wrappedSize * 2);
+            this.wrapped[this.wrappedSize++] = key;
+        }
+    }
+}
@@ -1,20 +1,32 @@
 package hr.fer.oprpp1.custom.collections;
 
+import java.util.Arrays;
+
 /**
  * Model of stack-like collection
  */
 public class ObjectStack<T> {
 
     /**
-     * Collection representing stack.
+     * Default capacity of stack.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Array of elements on stack, element on top of stack is on index <code>size-1</code>.
+     */
+    private Object[] elements;
+
+    /**
+     * Number of elements on stack.
      */
-    private ArrayIndexedCollection<T> collection;
+    private int size;
 
     /**
      * Constructing new empty stack
      */
     public ObjectStack() {
-        this.collection = new ArrayIndexedCollection<>();
+        this.elements = new Object[DEFAULT_CAPACITY];
     }
 
     /**
@@ -23,7 +35,7 @@ public class ObjectStack<T> {
      * @return <code>true</code> if collection contains no objects and <code>false</code> otherwise
      */
     public boolean isEmpty() {
-        return collection.isEmpty();
+        return this.size == 0;
     }
 
     /**
@@ -32,7 +44,7 @@ public class ObjectStack<T> {
      * @return Number of currently stored objects in this stack.
      */
     public int size() {
-        return this.collection.size();
+        return this.size;
     }
 
     /**
@@ -42,7 +54,29 @@ public class ObjectStack<T> {
      * @throws NullPointerException if given <code>value</code> is <code>null</code>.
      */
     public void push(T value) {
-        this.collection.add(value);
+        if (value == null)
+            throw new NullPointerException("Can not push null on stack");
+        if (this.size == this.elements.length)
+            this.elements = Arrays.copyOf(this.elements, this.size * 2);
+        this.elements[this.size++] = value;
+    }
+
+    /**
+     * Pushes all given values on stack in order of array, so last value of array ends on top of stack.
+     * Stack grows at most once.
+     *
+     * @param values values to push on this stack.
+     * @throws NullPointerException if some of given values is <code>null</code>, then stack is not changed.
+     */
+    public void pushAll(T[] values) {
+        for (T value : values) {
+            if (value == null)
+                throw new NullPointerException("Can not push null on stack");
+        }
+        if (this.size + values.length > this.elements.length)
+            this.elements = Arrays.copyOf(this.elements, Math.max(this.size + values.length, this.elements.length * 2));
+        System.arraycopy(values, 0, this.elements, this.size, values.length);
+        this.size += values.length;
     }
 
     /**
@@ -52,11 +86,35 @@ public class ObjectStack<T> {
      * @throws EmptyStackException if stack is empty
      */
     public T pop() {
-        T valueToReturn = this.peek();
-        this.collection.remove(this.collection.size()-1);
+        if (this.size == 0)
+            throw new EmptyStackException("Stack is empty!");
+
+        T valueToReturn = (T) this.elements[--this.size];
+        this.elements[this.size] = null;
         return valueToReturn;
     }
 
+    /**
+     * Removes given number of values from top of stack and writes them in given array
+     * in order in which they would be popped, so former top of stack is on index 0.
+     *
+     * @param target array in which popped values are written.
+     * @param n number of values to pop.
+     * @throws EmptyStackException if stack has less than <code>n</code> values, then stack is not changed.
+     * @throws IllegalArgumentException if <code>n</code> is negative or greater than length of given array.
+     */
+    public void popN(T[] target, int n) {
+        if (n < 0 || n > target.length)
+            throw new IllegalArgumentException("Number of popped values must be between 0 and " + target.length + ". It was " + n + ".");
+        if (n > this.size)
+            throw new EmptyStackException("Stack has only " + this.size + " elements!");
+
+        for (int i = 0; i < n; i++)
+            target[i] = (T) this.elements[this.size - 1 - i];
+        Arrays.fill(this.elements, this.size - n, this.size, null);
+        this.size -= n;
+    }
+
     /**
      * Returns last element placed on stack but does not delete it from stack.
      *
@@ -64,17 +122,18 @@ public class ObjectStack<T> {
      * @throws EmptyStackException if stack is empty.
      */
     public T peek() {
-        if (this.collection.size() == 0)
+        if (this.size == 0)
             throw new EmptyStackException("Stack is empty!");
 
-        return this.collection.get(this.collection.size()-1);
+        return (T) this.elements[this.size - 1];
     }
 
     /**
      * Removes all elements from stack;
      */
     public void clear() {
-        this.collection.clear();
+        Arrays.fill(this.elements, 0, this.size, null);
+        this.size = 0;
     }
 
 }
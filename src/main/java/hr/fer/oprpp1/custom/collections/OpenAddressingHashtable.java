@@ -0,0 +1,529 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Model of hash map which stores its entries in two parallel arrays,
+ * one of keys and one of values, using open addressing with linear probing.
+ * Entries are removed with backward shifting so no deleted markers are
+ * left in arrays and lookups stay short after many removals.
+ *
+ * @param <K> key of entry.
+ * @param <V> value of entry.
+ */
+final class OpenAddressingHashtable<K, V> extends SimpleHashtable<K, V> {
+
+    /**
+     * Smallest capacity of arrays. With load factor of 75 percent at least
+     * one slot is always left free so probing of absent keys always ends.
+     */
+    private static final int MINIMAL_CAPACITY = 4;
+
+    /**
+     * Keys of stored entries. Free slot is represented with <code>null</code>.
+     */
+    private Object[] keys;
+
+    /**
+     * Values of stored entries. Value on some index belongs to key on same index.
+     */
+    private Object[] values;
+
+    /**
+     * Constructs new <code>OpenAddressingHashtable</code> with given initial capacity
+     * of first bigger power of number 2 if <code>initialCapacity</code> is not
+     * power of number 2.
+     *
+     * @param initialCapacity initial capacity for new hash map.
+     * @param strategy strategy which determines hash code and equality of keys.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     * @throws NullPointerException if given strategy is <code>null</code>.
+     */
+    OpenAddressingHashtable(int initialCapacity, HashingStrategy<? super K> strategy) {
+        super(initialCapacity, strategy, false);
+        int capacity = determineCapacity(Math.max(initialCapacity, MINIMAL_CAPACITY));
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Adds new entry into collection and returns <code>null</code>.
+     * If given Key already exists in this collection
+     * replaces old value with given value and returns old value.
+     *
+     * @param key key of new entry.
+     * @param value value of new entry.
+     * @return returns <code>null</code> or if given key already exists in this collection returns old value of this key.
+     * @throws NullPointerException if given key is <code>null</code>.
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null)
+            throw new NullPointerException("Key can not be null.");
+        if (((this.size * 1.0) / this.keys.length) >= 0.75) {
+            resize(this.keys.length * 2);
+            this.modificationCount++;
+        }
+        return putEntry(key, value);
+    }
+
+    @Override
+    V putEntry(K key, V value) {
+        int mask = this.keys.length - 1;
+        int slot = index(key, this.keys.length);
+        /*probing stops on free slot or on slot with given key*/
+        for (Object current = this.keys[slot]; current != null; current = this.keys[slot]) {
+            if (keysEqual(current, key)) {
+                V returnValue = (V) this.values[slot];
+                this.values[slot] = value;
+                return returnValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+        this.modificationCount++;
+        return null;
+    }
+
+    @Override
+    void ensureCapacity(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (capacity > this.keys.length) {
+            resize(capacity);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Moves all stored entries in new arrays of keys and values of given capacity.
+     *
+     * @param capacity new capacity which is bigger power of number 2 than current one.
+     */
+    private void resize(int capacity) {
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        int mask = this.keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null)
+                continue;
+            int slot = index(oldKeys[i], this.keys.length);
+            while (this.keys[slot] != null)
+                slot = (slot + 1) & mask;
+            this.keys[slot] = oldKeys[i];
+            this.values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Returns index of slot in which given key is stored.
+     *
+     * @param key searched key.
+     * @return returns index of slot with given key or -1 if this collection do not contain given key.
+     */
+    private int slotOf(Object key) {
+        if (key == null)
+            return -1;
+        int mask = this.keys.length - 1;
+        int slot = index(key, this.keys.length);
+        for (Object current = this.keys[slot]; current != null; current = this.keys[slot]) {
+            if (keysEqual(current, key))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns value of entry with given key.
+     *
+     * @param key key of entry.
+     * @return returns value of entry with given key or <code>null</code> if this collection do not contains given key.
+     */
+    @Override
+    public V get(Object key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : (V) this.values[slot];
+    }
+
+    /**
+     * Returns true only if this collection contains given key
+     *
+     * @param key key to search in collection
+     * @return returns true only if this collection contains given key, false otherwise.
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * Returns true when finds first occurrence of given value.
+     *
+     * @param value searched value.
+     * @return returns true if this collection contains entry with give value, false otherwise.
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == null)
+                continue;
+            if (value == null ? this.values[i] == null : value.equals(this.values[i]))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes entry with given key. If entry with given key
+     * exists in this collection return value of that entry,
+     * <code>null</code> otherwise.
+     *
+     * @param key key of entry to remove.
+     * @return returns value of removed entry, if entry with given key do not exist in this collection returns <code>null</code>.
+     */
+    @Override
+    public V remove(Object key) {
+        int slot = slotOf(key);
+        if (slot < 0)
+            return null;
+        V returnValue = (V) this.values[slot];
+        removeSlot(slot, null);
+        return returnValue;
+    }
+
+    /**
+     * Removes entry from given slot and shifts following entries of same
+     * cluster backwards so no entry becomes unreachable from its home slot.
+     *
+     * @param slot index of slot to empty.
+     * @param wrapped collection in which entries moved from beginning of arrays
+     *                to slot behind them are stored, or <code>null</code> if such
+     *                entries do not need to be remembered.
+     */
+    private void removeSlot(int slot, ArrayIndexedCollection<TableEntry<K, V>> wrapped) {
+        int mask = this.keys.length - 1;
+        int free = slot;
+        for (int next = (free + 1) & mask; this.keys[next] != null; next = (next + 1) & mask) {
+            int home = index(this.keys[next], this.keys.length);
+            /*entry can be moved only if its home slot is not between free slot and its current slot*/
+            boolean movable = free <= next ? (home <= free || home > next) : (home <= free && home > next);
+            if (!movable)
+                continue;
+            this.keys[free] = this.keys[next];
+            this.values[free] = this.values[next];
+            if (wrapped != null && next < free)
+                wrapped.add(new SlotEntry((K) this.keys[free], (V) this.values[free]));
+            free = next;
+        }
+        this.keys[free] = null;
+        this.values[free] = null;
+        this.size--;
+        this.modificationCount++;
+    }
+
+    /**
+     * Removes all elements from this collection
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.keys, null);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.modificationCount++;
+    }
+
+    /**
+     * Returns string representation of this collection.
+     *
+     * @return returns string representation of this collection.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == null)
+                continue;
+            if (sb.length() > 1)
+                sb.append(", ");
+            sb.append(this.keys[i]).append("=").append(this.values[i]);
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Returns new array of all elements of this collection.
+     *
+     * @return returns new array of all elements of this collection.
+     */
+    @Override
+    public TableEntry<K, V>[] toArray() {
+        TableEntry<K, V>[] array = (TableEntry<K, V>[]) new TableEntry[this.size];
+        int index = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null)
+                array[index++] = new SlotEntry((K) this.keys[i], (V) this.values[i]);
+        }
+        return array;
+    }
+
+    @Override
+    public Iterator<TableEntry<K, V>> iterator() {
+        return new IteratorImpl();
+    }
+
+    @Override
+    public Spliterator<TableEntry<K, V>> spliterator() {
+        return new SpliteratorImpl(0, this.keys.length, this.size);
+    }
+
+    /**
+     * Entry given to users of this collection. Setting value of this entry
+     * sets value of key in this collection.
+     */
+    private final class SlotEntry extends TableEntry<K, V> {
+
+        /**
+         * Constructs new entry.
+         *
+         * @param key key of entry.
+         * @param value value of entry.
+         */
+        private SlotEntry(K key, V value) {
+            super(key, value, null);
+        }
+
+        /**
+         * Sets value of this entry and of key of this entry in collection.
+         *
+         * @param value new value of this entry.
+         */
+        @Override
+        public void setValue(V value) {
+            super.setValue(value);
+            int slot = slotOf(getKey());
+            if (slot >= 0)
+                OpenAddressingHashtable.this.values[slot] = value;
+        }
+    }
+
+    /**
+     * Spliterator over range of slots of this collection.
+     */
+    private class SpliteratorImpl implements Spliterator<TableEntry<K, V>> {
+
+        /**
+         * Index of next slot to traverse.
+         */
+        private int slot;
+
+        /**
+         * Index of first slot which is not traversed by this spliterator.
+         */
+        private final int fence;
+
+        /**
+         * Estimated number of entries in range of this spliterator.
+         */
+        private long estimate;
+
+        /**
+         * True only if estimate is exact number of entries.
+         */
+        private boolean exact;
+
+        /**
+         * Count of modifications over collection in the moment of constructing this spliterator.
+         */
+        private final int savedModificationCount;
+
+        /**
+         * Constructs new spliterator over given range of slots.
+         *
+         * @param slot index of first slot.
+         * @param fence index of first slot after range.
+         * @param estimate estimated number of entries in range.
+         */
+        private SpliteratorImpl(int slot, int fence, long estimate) {
+            this.slot = slot;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = slot == 0 && fence == OpenAddressingHashtable.this.keys.length;
+            this.savedModificationCount = OpenAddressingHashtable.this.modificationCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super TableEntry<K, V>> action) {
+            Object[] keys = OpenAddressingHashtable.this.keys;
+            while (this.slot < this.fence) {
+                int current = this.slot++;
+                if (keys[current] == null)
+                    continue;
+                action.accept(new SlotEntry((K) keys[current], (V) OpenAddressingHashtable.this.values[current]));
+                if (this.savedModificationCount != OpenAddressingHashtable.this.modificationCount)
+                    throw new ConcurrentModificationException("Collection has been modified since construction of this spliterator.");
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super TableEntry<K, V>> action) {
+            Object[] keys = OpenAddressingHashtable.this.keys;
+            Object[] values = OpenAddressingHashtable.this.values;
+            for (; this.slot < this.fence; this.slot++) {
+                if (keys[this.slot] != null)
+                    action.accept(new SlotEntry((K) keys[this.slot], (V) values[this.slot]));
+            }
+            if (this.savedModificationCount != OpenAddressingHashtable.this.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since construction of this spliterator.");
+        }
+
+        /**
+         * Splits off first half of remaining slots, each half gets half of estimate.
+         *
+         * @return returns spliterator over first half of remaining slots or <code>null</code> if range can not be split.
+         */
+        @Override
+        public Spliterator<TableEntry<K, V>> trySplit() {
+            int middle = (this.slot + this.fence) >>> 1;
+            if (middle <= this.slot)
+                return null;
+            this.estimate >>>= 1;
+            this.exact = false;
+            SpliteratorImpl prefix = new SpliteratorImpl(this.slot, middle, this.estimate);
+            this.slot = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (this.exact ? Spliterator.SIZED : 0) | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Iterator over slots of this collection. Slots are visited from the last one
+     * towards the first one so backward shifting on removal moves entries
+     * only into already visited slots. Entries moved from beginning of arrays over
+     * their end are remembered and given after all slots are visited.
+     */
+    private class IteratorImpl implements Iterator<TableEntry<K, V>> {
+
+        /**
+         * Index of slot of last given entry.
+         */
+        private int slot;
+
+        /**
+         * Last given entry or <code>null</code> if there is no entry to remove.
+         */
+        private TableEntry<K, V> last;
+
+        /**
+         * Entries which were moved in already visited slots by removal.
+         * Created only when first such entry exists.
+         */
+        private ArrayIndexedCollection<TableEntry<K, V>> wrapped;
+
+        /**
+         * Number of given entries which were remembered in <code>wrapped</code>.
+         */
+        private int wrappedGiven;
+
+        /**
+         * Number of entries left to give.
+         */
+        private int remaining;
+
+        /**
+         * Count of modifications over collection in the moment of constructing this iterator.
+         */
+        private int savedModificationCount;
+
+        /**
+         * Constructs new iterator
+         */
+        private IteratorImpl() {
+            this.slot = OpenAddressingHashtable.this.keys.length;
+            this.remaining = OpenAddressingHashtable.this.size;
+            this.savedModificationCount = OpenAddressingHashtable.this.modificationCount;
+        }
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return returns true if the iteration has more elements.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        @Override
+        public boolean hasNext() {
+            if (savedModificationCount != OpenAddressingHashtable.this.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since construction of this iterator.");
+            return this.remaining > 0;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return returns the next element in the iteration.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        @Override
+        public TableEntry<K, V> next() {
+            if (!hasNext())
+                throw new NoSuchElementException("No more elements.");
+
+            this.remaining--;
+            Object[] keys = OpenAddressingHashtable.this.keys;
+            while (--this.slot >= 0) {
+                if (keys[this.slot] != null) {
+                    this.last = new SlotEntry((K) keys[this.slot], (V) OpenAddressingHashtable.this.values[this.slot]);
+                    return this.last;
+                }
+            }
+            this.last = this.wrapped.get(this.wrappedGiven++);
+            return this.last;
+        }
+
+        /**
+         * Removes from the underlying collection
+         * the last element returned by this iterator.
+         * This method can be called only once per call to next().
+         *
+         * @throws IllegalStateException if the next method has not yet been called, or the remove method has already been called after the last call to the next method.
+         * @throws ConcurrentModificationException if collection has been modified since construction of this iterator.
+         */
+        @Override
+        public void remove() {
+            if (savedModificationCount != OpenAddressingHashtable.this.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since construction of this iterator.");
+            if (this.last == null)
+                throw new IllegalStateException("Can not invoke method remove if the next method has not yet been called.");
+
+            if (this.slot >= 0) {
+                if (this.wrapped == null)
+                    this.wrapped = new ArrayIndexedCollection<>();
+                OpenAddressingHashtable.this.removeSlot(this.slot, this.wrapped);
+            } else {
+                OpenAddressingHashtable.this.removeSlot(slotOf(this.last.getKey()), null);
+            }
+            this.last = null;
+            this.savedModificationCount = OpenAddressingHashtable.this.modificationCount;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join tasks which process elements of collections in parallel.
+ * Elements of arrays are split by index ranges, elements of other
+ * collections are read in chunks which are processed while next chunks are read.
+ */
+final class ParallelSupport {
+
+    /**
+     * Number of elements processed by one task.
+     */
+    static final int CHUNK_SIZE = 1024;
+
+    private ParallelSupport() {
+    }
+
+    /**
+     * Calls <code>processor.process(.)</code> in parallel for each element of given array
+     * between given indices, first index included and last excluded.
+     *
+     * @param elements array of elements.
+     * @param from index of first element.
+     * @param to index after last element.
+     * @param processor process to be executed for each element, must be safe to call from many threads.
+     */
+    static <T> void forEach(T[] elements, int from, int to, Processor<? super T> processor) {
+        new RangeAction<>(elements, from, to, processor).invoke();
+    }
+
+    /**
+     * Tests elements of given array between given indices in parallel. Range is split
+     * in parts of {@link #CHUNK_SIZE} elements and elements of each part which satisfy
+     * tester are compacted into their own array.
+     *
+     * @param elements array of elements.
+     * @param from index of first element.
+     * @param to index after last element.
+     * @param tester test for elements, must be safe to call from many threads.
+     * @return returns arrays of elements which satisfy tester, one for each part in order of parts.
+     */
+    static <T> Object[][] filter(T[] elements, int from, int to, Tester<? super T> tester) {
+        Object[][] passed = new Object[(to - from + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        if (passed.length > 0)
+            new FilterAction<>(elements, from, to, 0, passed.length, tester, passed).invoke();
+        return passed;
+    }
+
+    /**
+     * Calls <code>processor.process(.)</code> in parallel for each element given by getter.
+     *
+     * @param getter getter of elements.
+     * @param processor process to be executed for each element, must be safe to call from many threads.
+     */
+    static <T> void forEach(ElementsGetter<? extends T> getter, Processor<? super T> processor) {
+        ArrayIndexedCollection<ForkJoinTask<?>> tasks = new ArrayIndexedCollection<>();
+        while (getter.hasNextElement()) {
+            Object[] chunk = readChunk(getter);
+            tasks.add(new ChunkAction<>(chunk, processor).fork());
+        }
+        for (int i = 0; i < tasks.size(); i++)
+            tasks.get(i).join();
+    }
+
+    /**
+     * Tests elements given by getter in parallel and adds those which satisfy
+     * tester into given collection in order in which getter gives them.
+     *
+     * @param getter getter of elements.
+     * @param tester test for elements, must be safe to call from many threads.
+     * @param target collection in which elements are added.
+     */
+    static <T> void addAllSatisfying(ElementsGetter<? extends T> getter, Tester<? super T> tester, Collection<T> target) {
+        mapChunks(getter, chunk -> {
+            /*elements which satisfy tester are moved to beginning of chunk keeping their order*/
+            int passed = 0;
+            for (int i = 0; i < chunk.length; i++) {
+                if (tester.test((T) chunk[i]))
+                    chunk[passed++] = chunk[i];
+            }
+            return passed < chunk.length ? Arrays.copyOf(chunk, passed) : chunk;
+        }, passed -> {
+            /*elements are added by calling thread since target collection is not thread safe*/
+            for (Object element : passed)
+                target.add((T) element);
+        });
+    }
+
+    /**
+     * Transforms chunks of elements given by getter in parallel and passes
+     * results to combiner in order of chunks. Combiner is called only by calling thread.
+     *
+     * @param getter getter of elements.
+     * @param mapper transformation of chunk, must be safe to call from many threads.
+     * @param combiner process which receives results of transformations.
+     * @param <R> type of result of transformation.
+     */
+    static <R> void mapChunks(ElementsGetter<?> getter, Transformer<Object[], R> mapper, Processor<? super R> combiner) {
+        ArrayIndexedCollection<ChunkTask<R>> tasks = new ArrayIndexedCollection<>();
+        while (getter.hasNextElement()) {
+            ChunkTask<R> task = new ChunkTask<>(readChunk(getter), mapper);
+            task.fork();
+            tasks.add(task);
+        }
+        for (int i = 0; i < tasks.size(); i++)
+            combiner.process(tasks.get(i).join());
+    }
+
+    /**
+     * Reads at most {@link #CHUNK_SIZE} elements from getter.
+     *
+     * @param getter getter of elements.
+     * @return returns array of read elements, shorter than chunk size only for last chunk.
+     */
+    private static Object[] readChunk(ElementsGetter<?> getter) {
+        Object[] chunk = new Object[CHUNK_SIZE];
+        int length = getter.getNextElements(chunk);
+        return length == CHUNK_SIZE ? chunk : Arrays.copyOf(chunk, length);
+    }
+
+    /**
+     * Task which processes range of array, splitting it in halves while it is bigger than chunk.
+     */
+    private static final class RangeAction<T> extends RecursiveAction {
+
+        /**
+         * Serial version of class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Array of elements.
+         */
+        private final T[] elements;
+
+        /**
+         * Index of first element of range.
+         */
+        private final int from;
+
+        /**
+         * Index after last element of range.
+         */
+        private final int to;
+
+        /**
+         * Process executed for each element.
+         */
+        private final Processor<? super T> processor;
+
+        private RangeAction(T[] elements, int from, int to, Processor<? super T> processor) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.processor = processor;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= CHUNK_SIZE) {
+                for (int i = this.from; i < this.to; i++)
+                    this.processor.process(this.elements[i]);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new RangeAction<>(this.elements, this.from, middle, this.processor),
+                    new RangeAction<>(this.elements, middle, this.to, this.processor));
+        }
+    }
+
+    /**
+     * Task which tests parts of range of array, splitting parts in halves while there is more than one.
+     */
+    private static final class FilterAction<T> extends RecursiveAction {
+
+        /**
+         * Serial version of class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Array of elements.
+         */
+        private final T[] elements;
+
+        /**
+         * Index of first element of whole range.
+         */
+        private final int from;
+
+        /**
+         * Index after last element of whole range.
+         */
+        private final int to;
+
+        /**
+         * Index of first part tested by this task.
+         */
+        private final int firstPart;
+
+        /**
+         * Index after last part tested by this task.
+         */
+        private final int lastPart;
+
+        /**
+         * Test for elements.
+         */
+        private final Tester<? super T> tester;
+
+        /**
+         * Arrays of elements which satisfy tester, one for each part.
+         */
+        private final Object[][] passed;
+
+        private FilterAction(T[] elements, int from, int to, int firstPart, int lastPart,
+                             Tester<? super T> tester, Object[][] passed) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.firstPart = firstPart;
+            this.lastPart = lastPart;
+            this.tester = tester;
+            this.passed = passed;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.lastPart - this.firstPart > 1) {
+                int middle = (this.firstPart + this.lastPart) >>> 1;
+                invokeAll(new FilterAction<>(this.elements, this.from, this.to, this.firstPart, middle, this.tester, this.passed),
+                        new FilterAction<>(this.elements, this.from, this.to, middle, this.lastPart, this.tester, this.passed));
+                return;
+            }
+            int start = this.from + this.firstPart * CHUNK_SIZE;
+            int end = Math.min(start + CHUNK_SIZE, this.to);
+            Object[] part = new Object[end - start];
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                if (this.tester.test(this.elements[i]))
+                    part[count++] = this.elements[i];
+            }
+            this.passed[this.firstPart] = count < part.length ? Arrays.copyOf(part, count) : part;
+        }
+    }
+
+    /**
+     * Task which processes one chunk of elements.
+     */
+    private static final class ChunkAction<T> extends RecursiveAction {
+
+        /**
+         * Serial version of class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Elements of chunk.
+         */
+        private final Object[] chunk;
+
+        /**
+         * Process executed for each element.
+         */
+        private final Processor<? super T> processor;
+
+        private ChunkAction(Object[] chunk, Processor<? super T> processor) {
+            this.chunk = chunk;
+            this.processor = processor;
+        }
+
+        @Override
+        protected void compute() {
+            for (Object element : this.chunk)
+                this.processor.process((T) element);
+        }
+    }
+
+    /**
+     * Task which transforms one chunk of elements.
+     */
+    private static final class ChunkTask<R> extends RecursiveTask<R> {
+
+        /**
+         * Serial version of class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Elements of chunk.
+         */
+        private final Object[] chunk;
+
+        /**
+         * Transformation of chunk.
+         */
+        private final Transformer<Object[], R> mapper;
+
+        private ChunkTask(Object[] chunk, Transformer<Object[], R> mapper) {
+            this.chunk = chunk;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected R compute() {
+            return this.mapper.transform(this.chunk);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package hr.fer.oprpp1.custom.collections;
+
+/**
+ * Lazy sequence of operations over elements of some collection. Operations
+ * are only remembered until terminal operation is called, then every element
+ * of collection passes through all operations in one pass, without
+ * intermediate collections. Traversal stops as soon as limit is reached.
+ * <p>
+ * Parallel pipeline processes chunks of elements in common fork/join pool.
+ * Since limit depends on order of elements, pipeline with limit is always
+ * evaluated sequentially.
+ *
+ * @param <T> type of elements given by this pipeline.
+ */
+public class Pipeline<T> {
+
+    /**
+     * Collection whose elements enter pipeline.
+     */
+    private final Collection<?> source;
+
+    /**
+     * Operations of this pipeline.
+     */
+    private final Stage<T> stage;
+
+    /**
+     * True only if pipeline has some limit.
+     */
+    private final boolean limited;
+
+    /**
+     * True only if pipeline should be evaluated in parallel.
+     */
+    private final boolean parallel;
+
+    /**
+     * Constructs new pipeline which gives elements of given collection.
+     *
+     * @param source collection whose elements enter pipeline.
+     * @throws NullPointerException if given collection is <code>null</code>.
+     */
+    public Pipeline(Collection<? extends T> source) {
+        this(source, downstream -> (Sink<Object>) downstream, false, false);
+        if (source == null)
+            throw new NullPointerException("Source collection can not be null.");
+    }
+
+    private Pipeline(Collection<?> source, Stage<T> stage, boolean limited, boolean parallel) {
+        this.source = source;
+        this.stage = stage;
+        this.limited = limited;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns pipeline which gives only elements which satisfy given test.
+     *
+     * @param tester test for elements.
+     * @return returns new pipeline.
+     */
+    public Pipeline<T> filter(Tester<? super T> tester) {
+        Stage<T> upstream = this.stage;
+        return new Pipeline<>(this.source,
+                downstream -> upstream.wrap(value -> !tester.test(value) || downstream.accept(value)),
+                this.limited, this.parallel);
+    }
+
+    /**
+     * Returns pipeline which gives results of transformation of elements.
+     *
+     * @param transformer transformation of elements.
+     * @param <R> type of transformed elements.
+     * @return returns new pipeline.
+     */
+    public <R> Pipeline<R> map(Transformer<? super T, ? extends R> transformer) {
+        Stage<T> upstream = this.stage;
+        return new Pipeline<>(this.source,
+                downstream -> upstream.wrap(value -> downstream.accept(transformer.transform(value))),
+                this.limited, this.parallel);
+    }
+
+    /**
+     * Returns pipeline which gives at most given number of elements.
+     *
+     * @param maxSize maximal number of elements.
+     * @return returns new pipeline.
+     * @throws IllegalArgumentException if given number is negative.
+     */
+    public Pipeline<T> limit(long maxSize) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("Limit can not be negative. It was " + maxSize + ".");
+        Stage<T> upstream = this.stage;
+        return new Pipeline<>(this.source, downstream -> {
+            long[] given = new long[1];
+            return upstream.wrap(value -> {
+                if (given[0] >= maxSize)
+                    return false;
+                given[0]++;
+                return downstream.accept(value) && given[0] < maxSize;
+            });
+        }, true, this.parallel);
+    }
+
+    /**
+     * Returns same pipeline which is evaluated in parallel.
+     *
+     * @return returns new pipeline.
+     */
+    public Pipeline<T> parallel() {
+        return new Pipeline<>(this.source, this.stage, this.limited, true);
+    }
+
+    /**
+     * Calls <code>processor.process(.)</code> for each element given by this pipeline.
+     * If pipeline is parallel processor is called from many threads in no particular order.
+     *
+     * @param processor process to be executed for each element.
+     */
+    public void forEach(Processor<? super T> processor) {
+        if (this.parallel && !this.limited) {
+            ParallelSupport.mapChunks(this.source.createElementsGetter(), chunk -> {
+                run(chunk, chunk.length, sinkOf(processor));
+                return null;
+            }, result -> {
+            });
+            return;
+        }
+        Sink<Object> sink = sinkOf(processor);
+        ElementsGetter<?> getter = this.source.createElementsGetter();
+        Object[] buffer = new Object[ElementsGetter.PROCESS_BATCH_SIZE];
+        for (int count = getter.getNextElements(buffer); count > 0; count = getter.getNextElements(buffer)) {
+            if (!run(buffer, count, sink))
+                return;
+        }
+    }
+
+    /**
+     * Returns new collection with all elements given by this pipeline in order
+     * of elements of source collection, also if pipeline is parallel.
+     *
+     * @return returns new collection of elements.
+     * @throws NullPointerException if pipeline gives <code>null</code> element.
+     */
+    public ArrayIndexedCollection<T> collect() {
+        ArrayIndexedCollection<T> result = new ArrayIndexedCollection<>();
+        if (this.parallel && !this.limited) {
+            ParallelSupport.mapChunks(this.source.createElementsGetter(), chunk -> {
+                ArrayIndexedCollection<T> part = new ArrayIndexedCollection<>(Math.max(chunk.length, 1));
+                run(chunk, chunk.length, sinkOf(part::add));
+                return part;
+            }, result::addAll);
+            return result;
+        }
+        forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Returns first operation of this pipeline which passes elements to given processor.
+     *
+     * @param processor process which receives elements given by this pipeline.
+     * @return returns sink into which source elements are passed.
+     */
+    private Sink<Object> sinkOf(Processor<? super T> processor) {
+        return this.stage.wrap(value -> {
+            processor.process(value);
+            return true;
+        });
+    }
+
+    /**
+     * Passes given number of elements from given array into sink.
+     *
+     * @param elements array of elements.
+     * @param count number of elements.
+     * @param sink first operation of pipeline.
+     * @return returns false if pipeline needs no more elements, true otherwise.
+     */
+    private static boolean run(Object[] elements, int count, Sink<Object> sink) {
+        for (int i = 0; i < count; i++) {
+            if (!sink.accept(elements[i]))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Operation which receives element.
+     *
+     * @param <E> type of element.
+     */
+    private interface Sink<E> {
+
+        /**
+         * Receives element.
+         *
+         * @param value element.
+         * @return returns false if no more elements are needed, true otherwise.
+         */
+        boolean accept(E value);
+    }
+
+    /**
+     * Chain of operations which connects source elements with given operation.
+     *
+     * @param <T> type of elements given by chain.
+     */
+    private interface Stage<T> {
+
+        /**
+         * Returns first operation of chain which passes elements to given operation.
+         * State of operations, like count of elements, is created anew by every call.
+         *
+         * @param downstream operation which receives elements given by chain.
+         * @return returns first operation of chain.
+         */
+        Sink<Object> wrap(Sink<? super T> downstream);
+    }
+}
@@ -4,6 +4,10 @@ import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Model of simple hash map.
@@ -16,22 +20,68 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
     /**
      * Constant default capacity for creating new <code>SimpleHashtable</code>.
      */
-    private static final int DEFAULT_TABLE_CAPACITY = 16;
+    static final int DEFAULT_TABLE_CAPACITY = 16;
+
+    /**
+     * Number of slots moved to new table by one operation during incremental resizing.
+     * Table is doubled when it is 75 percent full so moving more than two slots per
+     * operation finishes resizing before next resizing is needed.
+     */
+    private static final int MIGRATION_STEP = 4;
+
+    /**
+     * Number of entries in one slot at which list of entries is converted to balanced tree.
+     */
+    private static final int TREEIFY_THRESHOLD = 8;
+
+    /**
+     * Height of tree at which tree of entries in one slot is converted back to list.
+     * Tree of this height holds at most three entries.
+     */
+    private static final int UNTREEIFY_HEIGHT = 2;
+
+    /**
+     * Smallest number of slots for which lists are converted to trees. Smaller
+     * tables have long lists because they are small and not because of collisions.
+     */
+    private static final int MIN_TREEIFY_CAPACITY = 64;
 
     /**
      * Internal collection of stored entries.
      */
     private TableEntry<K, V>[] table;
 
+    /**
+     * Table from which entries are moved to <code>table</code> during incremental
+     * resizing or <code>null</code> if no resizing is in progress.
+     */
+    private TableEntry<K, V>[] oldTable;
+
+    /**
+     * Number of slots of <code>oldTable</code> whose entries are already moved to <code>table</code>.
+     */
+    private int migratedSlots;
+
+    /**
+     * True if entries are moved to bigger table gradually by later operations
+     * instead of all at once by operation which exceeded load factor.
+     */
+    private boolean incrementalResize;
+
+    /**
+     * Strategy which determines hash code and equality of keys.
+     */
+    private final HashingStrategy<Object> strategy;
+
     /**
      * Number of entries currently stored in this collection.
      */
-    private int size;
+    int size;
 
     /**
      * Counter of structural modifications over this collection.
      */
-    private int modificationCount;
+    int modificationCount;
 
     /**
      * Constructs new <code>SimpleHashtable</code>
@@ -49,14 +99,109 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
      */
     public SimpleHashtable(int initialCapacity) {
+        this(initialCapacity, HashingStrategy.defaultStrategy());
+    }
+
+    /**
+     * Constructs new <code>SimpleHashtable</code> with given initial capacity
+     * which determines hash code and equality of keys with given strategy.
+     *
+     * @param initialCapacity initial capacity for new <code>SimpleHashtable</code>.
+     * @param strategy strategy which determines hash code and equality of keys.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     * @throws NullPointerException if given strategy is <code>null</code>.
+     */
+    public SimpleHashtable(int initialCapacity, HashingStrategy<? super K> strategy) {
+        this(initialCapacity, strategy, true);
+    }
+
+    /**
+     * Constructs new <code>SimpleHashtable</code> and allocates internal table of slots
+     * only if <code>allocateTable</code> is true. Storage engines which keep their
+     * entries in their own structures do not need table of slots.
+     *
+     * @param initialCapacity initial capacity for new <code>SimpleHashtable</code>.
+     * @param strategy strategy which determines hash code and equality of keys.
+     * @param allocateTable true if internal table of slots should be allocated.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     * @throws NullPointerException if given strategy is <code>null</code>.
+     */
+    SimpleHashtable(int initialCapacity, HashingStrategy<? super K> strategy, boolean allocateTable) {
         if (initialCapacity < 1)
             throw new IllegalArgumentException("Initial capacity must be greater or equal 1.");
+        if (strategy == null)
+            throw new NullPointerException("Hashing strategy can not be null.");
+        this.strategy = (HashingStrategy<Object>) strategy;
         initialCapacity = determineCapacity(initialCapacity);
         this.size = 0;
-        this.table = (TableEntry<K, V>[]) new TableEntry[initialCapacity];
+        if (allocateTable)
+            this.table = (TableEntry<K, V>[]) new TableEntry[initialCapacity];
         this.modificationCount = 0;
     }
 
+    /**
+     * Creates new hash map which resizes incrementally. When load factor is exceeded
+     * bigger table is allocated but entries are moved to it gradually, a few slots
+     * on every later <code>put</code>, <code>get</code>, <code>containsKey</code>
+     * and <code>remove</code>, so no single operation pays for moving all entries.
+     *
+     * @param initialCapacity initial capacity of new hash map.
+     * @param <K> key of entry.
+     * @param <V> value of entry.
+     * @return returns new empty hash map with incremental resizing.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     */
+    public static <K, V> SimpleHashtable<K, V> incrementalResizing(int initialCapacity) {
+        SimpleHashtable<K, V> hashtable = new SimpleHashtable<>(initialCapacity);
+        hashtable.incrementalResize = true;
+        return hashtable;
+    }
+
+    /**
+     * Creates new hash map which stores its entries in parallel arrays of keys
+     * and values using open addressing with linear probing instead of chaining
+     * entries in slots. Map created this way does not allocate new entry for each
+     * stored key and keeps same contract as map created by constructor.
+     *
+     * @param <K> key of entry.
+     * @param <V> value of entry.
+     * @return returns new empty hash map with open addressing storage.
+     */
+    public static <K, V> SimpleHashtable<K, V> openAddressing() {
+        return new OpenAddressingHashtable<>(DEFAULT_TABLE_CAPACITY, HashingStrategy.defaultStrategy());
+    }
+
+    /**
+     * Creates new hash map which stores its entries in parallel arrays of keys
+     * and values using open addressing with linear probing.
+     *
+     * @param initialCapacity initial capacity of new hash map.
+     * @param <K> key of entry.
+     * @param <V> value of entry.
+     * @return returns new empty hash map with open addressing storage.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     */
+    public static <K, V> SimpleHashtable<K, V> openAddressing(int initialCapacity) {
+        return new OpenAddressingHashtable<>(initialCapacity, HashingStrategy.defaultStrategy());
+    }
+
+    /**
+     * Creates new hash map which stores its entries in parallel arrays of keys
+     * and values using open addressing with linear probing and which determines
+     * hash code and equality of keys with given strategy.
+     *
+     * @param initialCapacity initial capacity of new hash map.
+     * @param strategy strategy which determines hash code and equality of keys.
+     * @param <K> key of entry.
+     * @param <V> value of entry.
+     * @return returns new empty hash map with open addressing storage.
+     * @throws IllegalArgumentException if given <code>initialCapacity</code> is smaller than 1.
+     * @throws NullPointerException if given strategy is <code>null</code>.
+     */
+    public static <K, V> SimpleHashtable<K, V> openAddressing(int initialCapacity, HashingStrategy<? super K> strategy) {
+        return new OpenAddressingHashtable<>(initialCapacity, strategy);
+    }
+
     /**
      * Adds new entry into collection and returns <code>null</code>.
      * If given Key already exists in this collection
@@ -71,62 +216,538 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
         /*checks if key is null*/
         if (key == null)
             throw new NullPointerException("Key can not be null.");
+        migrate();
         /*checks if capacity is under 75 percent*/
         if (((this.size * 1.0) / this.table.length) >= 0.75) {
             doubleCapacity();
             this.modificationCount++;
         }
+        return putEntry(key, value);
+    }
 
-        /*determines index based on key's hashCode*/
-        int index = index(key);
-        /*checks if position on calculated index is occupied*/
-        if (this.table[index] == null) {
-            this.table[index] = new TableEntry<>(key, value, null);
-        } else {
-            TableEntry<K, V> current;
-            /*checks if any entry in list on calculated index have given key*/
-            for (current = this.table[index]; current != null; current = current.next) {
-                /*if there is entry with given key rewrite value and return old value*/
-                if (current.getKey().equals(key)) {
-                    V returnValue = current.getValue();
-                    current.setValue(value);
+    /**
+     * Adds new entry or replaces value of existing entry without checking
+     * load of table. Caller must make sure that key is not <code>null</code>
+     * and that table has room for new entry.
+     *
+     * @param key key of new entry.
+     * @param value value of new entry.
+     * @return returns <code>null</code> or if given key already exists in this collection returns old value of this key.
+     */
+    V putEntry(K key, V value) {
+        /*determines index based on key's hashCode, list on that index is walked only once*/
+        int hash = hash(key);
+        TableEntry<K, V>[] tab = tableOf(hash);
+        int index = hash & (tab.length - 1);
+        if (isTreeBin(tab[index])) {
+            TreeNode<K, V> head = (TreeNode<K, V>) tab[index];
+            if (isTreeKey(head, key)) {
+                TreeNode<K, V> found = findTreeNode(head.binRoot, hash, key);
+                if (found != null) {
+                    V returnValue = found.getValue();
+                    found.setValue(value);
                     return returnValue;
                 }
+                putTreeNode(head, new TreeNode<>(key, value, hash));
+                this.size++;
+                this.modificationCount++;
+                return null;
             }
-            /*We are here only if there is no entry with given key but position on calculated index is occupied.
-            * We are creating new entry and adding it as tail of list of elements on this index*/
-            TableEntry<K, V> newEntry = new TableEntry<>(key, value, null);
-            TableEntry<K, V> tmp;
-            for (tmp = this.table[index]; tmp.next != null; tmp = tmp.next) {}
-            tmp.next = newEntry;
+            /*key which can not be compared with keys in tree turns tree back to list*/
+            head.binRoot = null;
         }
+        TableEntry<K, V> last = null;
+        int binCount = 0;
+        for (TableEntry<K, V> current = tab[index]; current != null; current = current.next, binCount++) {
+            /*if there is entry with given key rewrite value and return old value*/
+            if (current.hash == hash && keysEqual(current.getKey(), key)) {
+                V returnValue = current.getValue();
+                current.setValue(value);
+                return returnValue;
+            }
+            last = current;
+        }
+        /*there is no entry with given key so new entry is added as tail of list on this index*/
+        TableEntry<K, V> newEntry = new TableEntry<>(key, value, null, hash);
+        if (last == null)
+            tab[index] = newEntry;
+        else
+            last.next = newEntry;
+        if (binCount + 1 >= TREEIFY_THRESHOLD)
+            treeifyBin(tab, index);
         this.size++;
         this.modificationCount++;
         return null;
     }
 
     /**
-     * Doubles capacity of internal array of elements
-     * and copies all stored elements in new array
-     * with doubled capacity.
+     * Doubles capacity of internal array of elements. Stored entries are
+     * relinked into new array without allocating new entries, all at once
+     * or gradually if this collection resizes incrementally.
      */
     private void doubleCapacity() {
-        TableEntry<K, V>[] newTable = (TableEntry<K, V>[]) new TableEntry[this.table.length * 2];
-        TableEntry<K,V>[] elements = this.toArray();
-        this.table = newTable;
-        this.size = 0;
-        for (TableEntry<K, V> e : elements)
-            this.put(e.getKey(), e.getValue());
+        finishMigration();
+        this.oldTable = this.table;
+        this.migratedSlots = 0;
+        this.table = (TableEntry<K, V>[]) new TableEntry[this.oldTable.length * 2];
+        if (!this.incrementalResize)
+            finishMigration();
+    }
+
+    /**
+     * Makes sure that given number of entries can be stored in this collection
+     * without resizing. Pending incremental migration is finished and if table
+     * is too small it is resized at once to needed capacity.
+     *
+     * @param expectedSize number of entries which will be stored in this collection.
+     */
+    void ensureCapacity(int expectedSize) {
+        finishMigration();
+        int capacity = capacityFor(expectedSize);
+        if (capacity > this.table.length) {
+            rehash(capacity);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Returns smallest capacity with which given number of entries
+     * can be stored without table being filled over 75 percent.
+     *
+     * @param expectedSize number of entries.
+     * @return returns smallest sufficient capacity which is power of number 2.
+     */
+    static int capacityFor(int expectedSize) {
+        /*table is resized when it is 75 percent full before adding entry, so last entry is added when size is expectedSize - 1*/
+        return determineCapacity((int) Math.min(1 << 30, (long) (expectedSize - 1) * 4 / 3 + 1));
+    }
+
+    /**
+     * Moves all entries to new table of given length which is
+     * bigger power of number 2 than length of current table.
+     * Entries are relinked without allocating new entries.
+     *
+     * @param length length of new table.
+     */
+    private void rehash(int length) {
+        TableEntry<K, V>[] old = this.table;
+        this.table = (TableEntry<K, V>[]) new TableEntry[length];
+        for (int slot = 0; slot < old.length; slot++) {
+            boolean wasTree = isTreeBin(old[slot]);
+            if (wasTree)
+                ((TreeNode<K, V>) old[slot]).binRoot = null;
+            /*list is reversed first so adding entries as heads of new slots keeps their relative order*/
+            TableEntry<K, V> reversed = null;
+            for (TableEntry<K, V> current = old[slot], next; current != null; current = next) {
+                next = current.next;
+                current.next = reversed;
+                reversed = current;
+            }
+            for (TableEntry<K, V> current = reversed, next; current != null; current = next) {
+                next = current.next;
+                int index = current.hash & (length - 1);
+                current.next = this.table[index];
+                this.table[index] = current;
+            }
+            if (!wasTree)
+                continue;
+            /*entries of tree can end only in slots with same lowest bits as old slot*/
+            for (int index = slot; index < length; index += old.length) {
+                int binCount = 0;
+                for (TableEntry<K, V> current = this.table[index]; current != null && binCount < TREEIFY_THRESHOLD; current = current.next)
+                    binCount++;
+                if (binCount >= TREEIFY_THRESHOLD)
+                    treeifyBin(this.table, index);
+            }
+        }
+    }
+
+    /**
+     * Moves entries of a few slots of old table to new table
+     * if this collection is being incrementally resized.
+     */
+    private void migrate() {
+        if (this.oldTable == null)
+            return;
+        for (int i = 0; i < MIGRATION_STEP && this.migratedSlots < this.oldTable.length; i++)
+            migrateSlot(this.migratedSlots++);
+        if (this.migratedSlots == this.oldTable.length)
+            this.oldTable = null;
+    }
+
+    /**
+     * Moves all entries which are still in old table to new table.
+     */
+    private void finishMigration() {
+        if (this.oldTable == null)
+            return;
+        while (this.migratedSlots < this.oldTable.length)
+            migrateSlot(this.migratedSlots++);
+        this.oldTable = null;
+    }
+
+    /**
+     * Moves entries from slot of old table on given index to new table.
+     * Since new table is twice bigger every entry goes either to slot with same
+     * index or to slot with index bigger for length of old table, so entries are
+     * split in two lists keeping their relative order.
+     *
+     * @param slot index of slot in old table.
+     */
+    private void migrateSlot(int slot) {
+        boolean wasTree = isTreeBin(this.oldTable[slot]);
+        if (wasTree)
+            ((TreeNode<K, V>) this.oldTable[slot]).binRoot = null;
+        TableEntry<K, V> lowHead = null, lowTail = null, highHead = null, highTail = null;
+        int lowCount = 0, highCount = 0;
+        for (TableEntry<K, V> current = this.oldTable[slot], next; current != null; current = next) {
+            next = current.next;
+            current.next = null;
+            if ((current.hash & (this.table.length - 1)) == slot) {
+                if (lowTail == null)
+                    lowHead = current;
+                else
+                    lowTail.next = current;
+                lowTail = current;
+                lowCount++;
+            } else {
+                if (highTail == null)
+                    highHead = current;
+                else
+                    highTail.next = current;
+                highTail = current;
+                highCount++;
+            }
+        }
+        this.oldTable[slot] = null;
+        this.table[slot] = lowHead;
+        this.table[slot + this.oldTable.length] = highHead;
+        /*tree is split in two lists which are converted to trees again only if they are long enough*/
+        if (wasTree && lowCount >= TREEIFY_THRESHOLD)
+            treeifyBin(this.table, slot);
+        if (wasTree && highCount >= TREEIFY_THRESHOLD)
+            treeifyBin(this.table, slot + this.oldTable.length);
+    }
+
+    /**
+     * Returns table which holds slot for given key. While this collection is
+     * incrementally resized, slots of old table which are not yet moved to new
+     * table still hold their entries.
+     *
+     * @param hash spread hash code of key.
+     * @return returns table which holds slot for given key.
+     */
+    private TableEntry<K, V>[] tableOf(int hash) {
+        if (this.oldTable != null && (hash & (this.oldTable.length - 1)) >= this.migratedSlots)
+            return this.oldTable;
+        return this.table;
+    }
+
+    /**
+     * Returns true only if entries in slot with given head are stored in balanced tree.
+     *
+     * @param head first entry in slot.
+     * @return returns true only if entries in slot are stored in balanced tree.
+     */
+    private static boolean isTreeBin(TableEntry<?, ?> head) {
+        return head instanceof TreeNode && ((TreeNode<?, ?>) head).binRoot != null;
+    }
+
+    /**
+     * Returns true only if given key can be compared with keys in tree with given head.
+     * All keys in one tree are of same class which implements <code>Comparable</code>.
+     *
+     * @param head first entry in slot stored as tree.
+     * @param key key of entry.
+     * @return returns true only if given key can be compared with keys in tree.
+     */
+    private static boolean isTreeKey(TableEntry<?, ?> head, Object key) {
+        return key.getClass() == head.getKey().getClass();
+    }
+
+    /**
+     * Compares key with given hash code with key of given entry. Entries in tree
+     * are ordered by hash code first and keys with same hash code by natural order.
+     *
+     * @param hash spread hash code of key.
+     * @param key key to compare.
+     * @param entry entry with which key is compared.
+     * @return returns negative number, zero or positive number if key is smaller, equal or bigger than key of entry.
+     */
+    private static int compareInTree(int hash, Object key, TableEntry<?, ?> entry) {
+        if (hash != entry.hash)
+            return hash < entry.hash ? -1 : 1;
+        return ((Comparable<Object>) key).compareTo(entry.getKey());
+    }
+
+    /**
+     * Converts list of entries in given slot to balanced tree if keys of all
+     * entries are of same class which implements <code>Comparable</code>, keys are
+     * compared with their own <code>hashCode</code> and <code>equals</code> and
+     * table is big enough. Order of entries in list is kept so iteration
+     * over slot still follows <code>next</code> references.
+     *
+     * @param tab table with slot.
+     * @param index index of slot.
+     */
+    private void treeifyBin(TableEntry<K, V>[] tab, int index) {
+        TableEntry<K, V> head = tab[index];
+        if (tab.length < MIN_TREEIFY_CAPACITY || !(this.strategy instanceof HashingStrategy.DefaultStrategy))
+            return;
+        Class<?> keyClass = head.getKey().getClass();
+        if (!Comparable.class.isAssignableFrom(keyClass))
+            return;
+        for (TableEntry<K, V> current = head; current != null; current = current.next)
+            if (current.getKey().getClass() != keyClass)
+                return;
+
+        TreeNode<K, V> root = null, previous = null;
+        for (TableEntry<K, V> current = head, next; current != null; current = next) {
+            next = current.next;
+            TreeNode<K, V> node = current instanceof TreeNode
+                    ? (TreeNode<K, V>) current
+                    : new TreeNode<>(current.getKey(), current.getValue(), current.hash);
+            node.reset(previous);
+            if (previous == null)
+                tab[index] = node;
+            else
+                previous.next = node;
+            previous = node;
+            root = insertTreeNode(root, node);
+        }
+        ((TreeNode<K, V>) tab[index]).binRoot = root;
+    }
+
+    /**
+     * Adds new node into tree with given head. New node is linked in list of
+     * entries right behind head.
+     *
+     * @param head first entry in slot stored as tree.
+     * @param node new node.
+     */
+    private static <K, V> void putTreeNode(TreeNode<K, V> head, TreeNode<K, V> node) {
+        node.reset(head);
+        node.next = head.next;
+        if (head.next != null)
+            ((TreeNode<K, V>) head.next).previous = node;
+        head.next = node;
+        head.binRoot = insertTreeNode(head.binRoot, node);
+    }
+
+    /**
+     * Removes given node from tree in given slot and from list of entries in that slot.
+     * If tree becomes small it is converted back to list.
+     *
+     * @param tab table with slot.
+     * @param index index of slot.
+     * @param node node to remove.
+     */
+    private static <K, V> void removeTreeNode(TableEntry<K, V>[] tab, int index, TreeNode<K, V> node) {
+        TreeNode<K, V> root = deleteTreeNode(((TreeNode<K, V>) tab[index]).binRoot, node);
+        TableEntry<K, V> next = node.next;
+        if (node.previous == null)
+            tab[index] = next;
+        else
+            node.previous.next = next;
+        if (next != null)
+            ((TreeNode<K, V>) next).previous = node.previous;
+        node.binRoot = null;
+
+        if (tab[index] != null)
+            ((TreeNode<K, V>) tab[index]).binRoot = root.height <= UNTREEIFY_HEIGHT ? null : root;
+    }
+
+    /**
+     * Returns node with given key from tree with given root.
+     *
+     * @param root root of tree.
+     * @param hash spread hash code of key.
+     * @param key searched key.
+     * @return returns node with given key or <code>null</code> if tree do not contain given key.
+     */
+    private static <K, V> TreeNode<K, V> findTreeNode(TreeNode<K, V> root, int hash, Object key) {
+        TreeNode<K, V> current = root;
+        while (current != null) {
+            int cmp = compareInTree(hash, key, current);
+            if (cmp == 0) {
+                if (current.getKey().equals(key))
+                    return current;
+                /*compareTo is not consistent with equals, so key can be in both subtrees*/
+                TreeNode<K, V> found = findTreeNode(current.left, hash, key);
+                if (found != null)
+                    return found;
+            }
+            current = cmp < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns true only if given node is in tree with given root. Node is found
+     * by identity, so keys which compare as equal are searched in both subtrees.
+     *
+     * @param root root of tree.
+     * @param node searched node.
+     * @return returns true only if given node is in tree.
+     */
+    private static <K, V> boolean containsTreeNode(TreeNode<K, V> root, TreeNode<K, V> node) {
+        TreeNode<K, V> current = root;
+        while (current != null) {
+            if (current == node)
+                return true;
+            int cmp = compareInTree(node.hash, node.getKey(), current);
+            if (cmp == 0 && containsTreeNode(current.left, node))
+                return true;
+            current = cmp < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    /**
+     * Inserts node into tree with given root and returns new root of balanced tree.
+     *
+     * @param root root of tree or <code>null</code> if tree is empty.
+     * @param node node to insert.
+     * @return returns new root of tree.
+     */
+    private static <K, V> TreeNode<K, V> insertTreeNode(TreeNode<K, V> root, TreeNode<K, V> node) {
+        if (root == null)
+            return node;
+        if (compareInTree(node.hash, node.getKey(), root) < 0)
+            root.left = insertTreeNode(root.left, node);
+        else
+            root.right = insertTreeNode(root.right, node);
+        return rebalance(root);
+    }
+
+    /**
+     * Deletes node from tree with given root and returns new root of balanced tree.
+     *
+     * @param root root of tree.
+     * @param node node to delete.
+     * @return returns new root of tree or <code>null</code> if tree became empty.
+     */
+    private static <K, V> TreeNode<K, V> deleteTreeNode(TreeNode<K, V> root, TreeNode<K, V> node) {
+        if (root == node) {
+            if (root.left == null)
+                return root.right;
+            if (root.right == null)
+                return root.left;
+            TreeNode<K, V> successor = root.right;
+            while (successor.left != null)
+                successor = successor.left;
+            successor.right = deleteSmallest(root.right);
+            successor.left = root.left;
+            return rebalance(successor);
+        }
+        int cmp = compareInTree(node.hash, node.getKey(), root);
+        if (cmp < 0 || cmp == 0 && containsTreeNode(root.left, node))
+            root.left = deleteTreeNode(root.left, node);
+        else
+            root.right = deleteTreeNode(root.right, node);
+        return rebalance(root);
+    }
+
+    /**
+     * Deletes smallest node from tree with given root.
+     *
+     * @param root root of tree.
+     * @return returns new root of tree.
+     */
+    private static <K, V> TreeNode<K, V> deleteSmallest(TreeNode<K, V> root) {
+        if (root.left == null)
+            return root.right;
+        root.left = deleteSmallest(root.left);
+        return rebalance(root);
+    }
+
+    /**
+     * Restores balance of given node whose subtrees differ in height by at most two.
+     *
+     * @param node node to balance.
+     * @return returns root of balanced subtree.
+     */
+    private static <K, V> TreeNode<K, V> rebalance(TreeNode<K, V> node) {
+        node.updateHeight();
+        int balance = TreeNode.height(node.left) - TreeNode.height(node.right);
+        if (balance > 1) {
+            if (TreeNode.height(node.left.left) < TreeNode.height(node.left.right))
+                node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (TreeNode.height(node.right.right) < TreeNode.height(node.right.left))
+                node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates subtree with given root to the right.
+     *
+     * @param node root of subtree.
+     * @return returns new root of subtree.
+     */
+    private static <K, V> TreeNode<K, V> rotateRight(TreeNode<K, V> node) {
+        TreeNode<K, V> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.updateHeight();
+        left.updateHeight();
+        return left;
+    }
+
+    /**
+     * Rotates subtree with given root to the left.
+     *
+     * @param node root of subtree.
+     * @return returns new root of subtree.
+     */
+    private static <K, V> TreeNode<K, V> rotateLeft(TreeNode<K, V> node) {
+        TreeNode<K, V> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.updateHeight();
+        right.updateHeight();
+        return right;
     }
 
     /**
      * Determines on which index of collection this element will be stored.
+     * Number of slots is always power of number 2 so index is taken from
+     * lowest bits of spread hash code.
      *
      * @param key key of entry
+     * @param length number of slots in which entry can be stored.
      * @return returns index of this collection on which entry will be stored.
      */
-    private int index(K key) {
-        return Math.abs(key.hashCode()) % this.table.length;
+    int index(Object key, int length) {
+        return hash(key) & (length - 1);
+    }
+
+    /**
+     * Returns hash code of given key with higher bits spread to lower bits.
+     * Index of slot is taken from lowest bits of hash code so without spreading
+     * keys which differ only in higher bits would all end in same slot.
+     *
+     * @param key key of entry.
+     * @return returns spread hash code of given key.
+     */
+    int hash(Object key) {
+        int h = this.strategy.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns true only if given keys are equal by hashing strategy of this collection.
+     *
+     * @param stored key stored in this collection.
+     * @param key key given by user of this collection.
+     * @return returns true only if given keys are equal.
+     */
+    boolean keysEqual(Object stored, Object key) {
+        return this.strategy.equals(stored, key);
     }
 
     /**
@@ -136,17 +757,135 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      * @return returns value of entry with given key or <code>null</code> if this collection do not contains given key.
      */
     public V get(Object key) {
+        TableEntry<K, V> entry = entryOf(key);
+        return entry == null ? null : entry.getValue();
+    }
 
-        /*if this collection do not contain key return null*/
-        if (!this.containsKey(key))
+    /**
+     * Returns entry with given key. Hash code of key is calculated
+     * once and only list on index of that hash code is walked.
+     *
+     * @param key key of entry.
+     * @return returns entry with given key or <code>null</code> if this collection do not contains given key.
+     */
+    private TableEntry<K, V> entryOf(Object key) {
+        if (key == null)
             return null;
-        /*if collection contains key search for entry with that key on index calculated by hashCode of key*/
-        TableEntry<K, V> current;
-        for (current = this.table[index((K) key)]; current != null && current.getKey() != key; current = current.next) {
-            if (current.getKey().equals(key))
-                break;
+
+        migrate();
+        int hash = hash(key);
+        TableEntry<K, V>[] tab = tableOf(hash);
+        TableEntry<K, V> head = tab[hash & (tab.length - 1)];
+        if (isTreeBin(head) && isTreeKey(head, key))
+            return findTreeNode(((TreeNode<K, V>) head).binRoot, hash, key);
+        for (TableEntry<K, V> current = head; current != null; current = current.next) {
+            if (current.hash == hash && keysEqual(current.getKey(), key))
+                return current;
         }
-        return current.getValue();
+        return null;
+    }
+
+    /**
+     * Adds entries with given keys and values into this collection. Value on some
+     * index belongs to key on same index. Table is resized at most once before
+     * entries are added, so load of table is not checked for every entry.
+     *
+     * @param keys keys of new entries.
+     * @param values values of new entries.
+     * @throws IllegalArgumentException if arrays of keys and values are not of same length.
+     * @throws NullPointerException if some key is <code>null</code>, entries before that key are already added.
+     */
+    public void putAll(K[] keys, V[] values) {
+        if (keys.length != values.length)
+            throw new IllegalArgumentException("Number of keys and values must be equal.");
+        ensureCapacity(this.size + keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null)
+                throw new NullPointerException("Key can not be null.");
+            putEntry(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Adds all given entries into this collection. Table is resized at most once
+     * before entries are added, so load of table is not checked for every entry.
+     *
+     * @param entries entries to add.
+     * @throws NullPointerException if key of some entry is <code>null</code>, entries before that entry are already added.
+     */
+    public void putAll(Collection<? extends TableEntry<? extends K, ? extends V>> entries) {
+        ensureCapacity(this.size + entries.size());
+        ElementsGetter<? extends TableEntry<? extends K, ? extends V>> getter = entries.createElementsGetter();
+        while (getter.hasNextElement()) {
+            TableEntry<? extends K, ? extends V> entry = getter.getNextElement();
+            if (entry.getKey() == null)
+                throw new NullPointerException("Key can not be null.");
+            putEntry(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Writes values of given keys into given array. Value of key on some index is
+     * written on same index, or <code>null</code> if this collection do not contain that key.
+     * While this collection is incrementally resized every key is searched as in {@link #get(Object)},
+     * so migration of old table advances by few slots per key and is not finished at once.
+     *
+     * @param keys keys of entries.
+     * @param values array in which values are written.
+     * @throws IllegalArgumentException if array of values is shorter than array of keys.
+     */
+    public void getAll(Object[] keys, V[] values) {
+        if (values.length < keys.length)
+            throw new IllegalArgumentException("Array of values must be at least as long as array of keys.");
+        for (int i = 0; i < keys.length; i++)
+            values[i] = get(keys[i]);
+    }
+
+    /**
+     * Writes values of given keys into given array in order in which keys are given by
+     * their collection, or <code>null</code> if this collection do not contain some key.
+     * Migration of old table advances per key as in {@link #getAll(Object[], Object[])}.
+     *
+     * @param keys keys of entries.
+     * @param values array in which values are written.
+     * @throws IllegalArgumentException if array of values is shorter than number of keys.
+     */
+    public void getAll(Collection<?> keys, V[] values) {
+        if (values.length < keys.size())
+            throw new IllegalArgumentException("Array of values must be at least as long as array of keys.");
+        ElementsGetter<?> getter = keys.createElementsGetter();
+        for (int i = 0; getter.hasNextElement(); i++)
+            values[i] = get(getter.getNextElement());
+    }
+
+    /**
+     * Removes entries with given keys from this collection.
+     * While this collection is incrementally resized every key is removed as in {@link #remove(Object)},
+     * so migration of old table advances by few slots per key and is not finished at once.
+     *
+     * @param keys keys of entries to remove.
+     * @return returns number of removed entries.
+     */
+    public int removeAll(Object[] keys) {
+        int oldSize = this.size;
+        for (Object key : keys)
+            remove(key);
+        return oldSize - this.size;
+    }
+
+    /**
+     * Removes entries with given keys from this collection.
+     * Migration of old table advances per key as in {@link #removeAll(Object[])}.
+     *
+     * @param keys keys of entries to remove.
+     * @return returns number of removed entries.
+     */
+    public int removeAll(Collection<?> keys) {
+        int oldSize = this.size;
+        ElementsGetter<?> getter = keys.createElementsGetter();
+        while (getter.hasNextElement())
+            remove(getter.getNextElement());
+        return oldSize - this.size;
     }
 
     /**
@@ -165,13 +904,7 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      * @return returns true only if this collection contains given key, false otherwise.
      */
     public boolean containsKey(Object key) {
-        if (key == null)
-            return false;
-
-        for (TableEntry<K, V> current = this.table[index((K) key)]; current != null; current = current.next)
-            if (current.getKey().equals(key))
-                return true;
-        return false;
+        return entryOf(key) != null;
     }
 
     /**
@@ -183,6 +916,7 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      * @return returns true if this collection contains entry with give value, false otherwise.
      */
     public boolean containsValue(Object value) {
+        finishMigration();
         for (int i = 0; i < this.table.length; i++) {
             for (TableEntry<K, V> current = this.table[i]; current != null; current = current.next) {
                 /*value can be null so if we call method equals we get NullPointerException*/
@@ -210,25 +944,44 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      * @return returns value of removed entry, if entry with given key do not exist in this collection returns <code>null</code>.
      */
     public V remove(Object key) {
-        if (!this.containsKey(key))
+        if (key == null)
             return null;
-        /*if entry with given key is head of list remove it from head of list and put entry's next as head*/
-        if (this.table[index((K) key)].getKey().equals(key)) {
-            V returnValue = this.table[index((K) key)].getValue();
-            this.table[index((K) key)] = this.table[index((K) key)].next;
+
+        migrate();
+        int hash = hash(key);
+        TableEntry<K, V>[] tab = tableOf(hash);
+        int index = hash & (tab.length - 1);
+        if (isTreeBin(tab[index])) {
+            TreeNode<K, V> head = (TreeNode<K, V>) tab[index];
+            TableEntry<K, V> found = null;
+            if (isTreeKey(head, key)) {
+                found = findTreeNode(head.binRoot, hash, key);
+            } else {
+                /*key of other class can still be equal to some key in tree so list is searched*/
+                for (TableEntry<K, V> current = head; found == null && current != null; current = current.next)
+                    if (current.hash == hash && keysEqual(current.getKey(), key))
+                        found = current;
+            }
+            if (found == null)
+                return null;
+            removeTreeNode(tab, index, (TreeNode<K, V>) found);
             this.size--;
             this.modificationCount++;
-            return returnValue;
-        } else {
-            TableEntry<K, V> previous = this.table[index((K) key)];
-            TableEntry<K, V> current;
-            for (current = previous.next; !current.getKey().equals(key); previous = current, current = previous.next)
+            return found.getValue();
+        }
+        for (TableEntry<K, V> previous = null, current = tab[index]; current != null; previous = current, current = current.next) {
+            if (current.hash != hash || !keysEqual(current.getKey(), key))
                 continue;
-            previous.next = current.next;
+            /*entry is unlinked from head of list or from its previous entry*/
+            if (previous == null)
+                tab[index] = current.next;
+            else
+                previous.next = current.next;
             this.size--;
             this.modificationCount++;
             return current.getValue();
         }
+        return null;
     }
 
     /**
@@ -245,6 +998,7 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      */
     public void clear() {
         Arrays.fill(this.table, null);
+        this.oldTable = null;
         this.size = 0;
         this.modificationCount++;
     }
@@ -256,6 +1010,7 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      */
     @Override
     public String toString() {
+        finishMigration();
         String s = "[";
         for (int i = 0; i < this.table.length; i++) {
             if (this.table[i] == null)
@@ -277,6 +1032,7 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      * @return returns new array of all elements of this collection.
      */
     public TableEntry<K, V>[] toArray() {
+        finishMigration();
         TableEntry<K, V>[] array = (TableEntry<K, V>[]) new TableEntry[this.size()];
         int index = 0;
         for (int i = 0; i < this.table.length; i++) {
@@ -296,7 +1052,7 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
      * @param initialCapacity given initial capacity.
      * @return returns initial capacity that is power of number 2.
      */
-    private static int determineCapacity(int initialCapacity) {
+    static int determineCapacity(int initialCapacity) {
         int i = 1;
         while (i < initialCapacity) {
             i *=2;
@@ -306,20 +1062,193 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
 
     @Override
     public Iterator<TableEntry<K, V>> iterator() {
+        finishMigration();
         return new IteratorImpl();
     }
 
-    private class IteratorImpl implements Iterator<SimpleHashtable.TableEntry<K, V>> {
+    /**
+     * Returns spliterator over entries of this collection which splits table
+     * in ranges of slots. Spliterator over whole table knows exact number of
+     * entries, parts of table only estimate it.
+     *
+     * @return returns new spliterator over entries of this collection.
+     */
+    @Override
+    public Spliterator<TableEntry<K, V>> spliterator() {
+        finishMigration();
+        return new SpliteratorImpl(this.table, 0, this.table.length, this.size);
+    }
+
+    /**
+     * Returns sequential stream of entries of this collection.
+     *
+     * @return returns sequential stream of entries of this collection.
+     */
+    public Stream<TableEntry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns parallel stream of entries of this collection.
+     *
+     * @return returns parallel stream of entries of this collection.
+     */
+    public Stream<TableEntry<K, V>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Spliterator over range of slots of table.
+     */
+    private class SpliteratorImpl implements Spliterator<TableEntry<K, V>> {
+
+        /**
+         * Table which is traversed.
+         */
+        private final TableEntry<K, V>[] tab;
+
+        /**
+         * Index of next slot to traverse.
+         */
+        private int slot;
+
+        /**
+         * Index of first slot which is not traversed by this spliterator.
+         */
+        private final int fence;
 
         /**
-         * Cursor to current element.
+         * Next entry in list of currently traversed slot or <code>null</code> if next slot must be visited.
          */
         private TableEntry<K, V> current;
 
         /**
-         * Current index of iteration.
+         * Estimated number of entries in range of this spliterator.
          */
-        private int index;
+        private long estimate;
+
+        /**
+         * True only if estimate is exact number of entries.
+         */
+        private boolean exact;
+
+        /**
+         * Count of modifications over collection in the moment of constructing this spliterator.
+         */
+        private final int savedModificationCount;
+
+        /**
+         * Constructs new spliterator over given range of slots.
+         *
+         * @param tab traversed table.
+         * @param slot index of first slot.
+         * @param fence index of first slot after range.
+         * @param estimate estimated number of entries in range.
+         */
+        private SpliteratorImpl(TableEntry<K, V>[] tab, int slot, int fence, long estimate) {
+            this.tab = tab;
+            this.slot = slot;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = slot == 0 && fence == tab.length;
+            this.savedModificationCount = SimpleHashtable.this.modificationCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super TableEntry<K, V>> action) {
+            while (this.current == null && this.slot < this.fence)
+                this.current = this.tab[this.slot++];
+            if (this.current == null)
+                return false;
+            TableEntry<K, V> entry = this.current;
+            this.current = entry.next;
+            action.accept(entry);
+            if (this.savedModificationCount != SimpleHashtable.this.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since construction of this spliterator.");
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super TableEntry<K, V>> action) {
+            for (TableEntry<K, V> entry = this.current; entry != null; entry = entry.next)
+                action.accept(entry);
+            this.current = null;
+            for (; this.slot < this.fence; this.slot++) {
+                for (TableEntry<K, V> entry = this.tab[this.slot]; entry != null; entry = entry.next)
+                    action.accept(entry);
+            }
+            if (this.savedModificationCount != SimpleHashtable.this.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since construction of this spliterator.");
+        }
+
+        /**
+         * Splits off first half of remaining slots, each half gets half of estimate.
+         *
+         * @return returns spliterator over first half of remaining slots or <code>null</code> if range can not be split.
+         */
+        @Override
+        public Spliterator<TableEntry<K, V>> trySplit() {
+            int middle = (this.slot + this.fence) >>> 1;
+            if (this.current != null || middle <= this.slot)
+                return null;
+            this.estimate >>>= 1;
+            this.exact = false;
+            SpliteratorImpl prefix = new SpliteratorImpl(this.tab, this.slot, middle, this.estimate);
+            this.slot = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (this.exact ? Spliterator.SIZED : 0) | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Iterator which walks every slot of table and every list once. Removal
+     * unlinks last given entry from its list without searching for it again.
+     */
+    private class IteratorImpl implements Iterator<SimpleHashtable.TableEntry<K, V>> {
+
+        /**
+         * Table which is iterated.
+         */
+        private final TableEntry<K, V>[] tab;
+
+        /**
+         * Entry which will be given by next call of next() or <code>null</code> if there are no more entries.
+         */
+        private TableEntry<K, V> next;
+
+        /**
+         * Index of slot which holds <code>next</code>.
+         */
+        private int nextSlot;
+
+        /**
+         * Entry before <code>next</code> in its list or <code>null</code> if <code>next</code> is first in list.
+         */
+        private TableEntry<K, V> nextPrevious;
+
+        /**
+         * Last given entry or <code>null</code> if there is no entry to remove.
+         */
+        private TableEntry<K, V> last;
+
+        /**
+         * Index of slot which holds <code>last</code>.
+         */
+        private int lastSlot;
+
+        /**
+         * Entry before <code>last</code> in its list or <code>null</code> if <code>last</code> is first in list.
+         */
+        private TableEntry<K, V> lastPrevious;
 
         /**
          * Count of modifications over collection in the moment of constructing this iterator.
@@ -330,14 +1259,26 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
          * Constructs new iterator
          */
         public IteratorImpl() {
-            int i = 0;
-            while (SimpleHashtable.this.table[i] == null)
-                i++;
-            this.current = SimpleHashtable.this.table[i];
-            //this.index = 0;
+            this.tab = SimpleHashtable.this.table;
+            this.nextSlot = -1;
+            advanceSlot();
             this.savedModificationCount = SimpleHashtable.this.modificationCount;
         }
 
+        /**
+         * Moves <code>next</code> to first entry of first non empty slot after <code>nextSlot</code>.
+         */
+        private void advanceSlot() {
+            this.next = null;
+            this.nextPrevious = null;
+            while (++this.nextSlot < this.tab.length) {
+                if (this.tab[this.nextSlot] != null) {
+                    this.next = this.tab[this.nextSlot];
+                    return;
+                }
+            }
+        }
+
         /**
          * Returns true if the iteration has more elements.
          *
@@ -349,18 +1290,7 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
             if (savedModificationCount != SimpleHashtable.this.modificationCount)
                 throw new ConcurrentModificationException("Collection has been modified since construction of this iterator.");
 
-            if (current.next != null)
-                return true;
-            int i = 0;
-            /*searches for next non null element of hash table*/
-            while (index + i < SimpleHashtable.this.table.length) {
-                if (SimpleHashtable.this.table[index + i] != null) {
-                    return true;
-                }
-                i++;
-            }
-
-            return false;
+            return this.next != null;
         }
 
         /**
@@ -372,21 +1302,19 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
          */
         @Override
         public TableEntry<K, V> next() {
-            if (savedModificationCount != SimpleHashtable.this.modificationCount)
-                throw new ConcurrentModificationException("Collection has been modified since construction of this iterator.");
-
             if (!hasNext())
                 throw new NoSuchElementException("No more elements.");
 
-            if (current.next != null && index != 0) {
-                current = current.next;
+            this.last = this.next;
+            this.lastSlot = this.nextSlot;
+            this.lastPrevious = this.nextPrevious;
+            if (this.last.next != null) {
+                this.nextPrevious = this.last;
+                this.next = this.last.next;
             } else {
-                while (SimpleHashtable.this.table[index] == null)
-                    index++;
-                current = SimpleHashtable.this.table[index];
-                index++;
+                advanceSlot();
             }
-            return current;
+            return this.last;
         }
 
         /**
@@ -401,22 +1329,104 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
         public void remove() {
             if (savedModificationCount != SimpleHashtable.this.modificationCount)
                 throw new ConcurrentModificationException("Collection has been modified since construction of this iterator.");
-
-            if (current.getValue() == null) {
-                if (SimpleHashtable.this.containsKey(current.getKey())) {
-                    SimpleHashtable.this.remove(current.getKey());
-                } else {
-                    throw new IllegalStateException("Can not invoke method remove if the next method has not yet been called.");
-                }
-                /*if (current.getValue() != SimpleHashtable.this.remove(current.getKey())) {
-                    throw new IllegalStateException("Can not invoke method remove if the next method has not yet been called.");
-                }*/
-            } else if (!current.getValue().equals(SimpleHashtable.this.remove(current.getKey())))
+            if (this.last == null)
                 throw new IllegalStateException("Can not invoke method remove if the next method has not yet been called.");
-            this.savedModificationCount++;
+
+            if (isTreeBin(this.tab[this.lastSlot])) {
+                removeTreeNode(this.tab, this.lastSlot, (TreeNode<K, V>) this.last);
+            } else if (this.lastPrevious == null) {
+                this.tab[this.lastSlot] = this.last.next;
+            } else {
+                this.lastPrevious.next = this.last.next;
+            }
+            /*if next entry is in same list, entry before it is now entry before removed one*/
+            if (this.nextPrevious == this.last)
+                this.nextPrevious = this.lastPrevious;
+            this.last = null;
+            SimpleHashtable.this.size--;
+            SimpleHashtable.this.modificationCount++;
+            this.savedModificationCount = SimpleHashtable.this.modificationCount;
         }
     }
 
+    /**
+     * Entry stored in slot whose entries are kept in balanced tree. Besides
+     * references of tree, node keeps reference to previous entry in list of slot
+     * so it can be unlinked in constant time. Node which is not in tree behaves
+     * as ordinary entry in list.
+     *
+     * @param <K> unique key of entry.
+     * @param <V> value of entry.
+     */
+    private static final class TreeNode<K, V> extends TableEntry<K, V> {
+
+        /**
+         * Left child in tree.
+         */
+        private TreeNode<K, V> left;
+
+        /**
+         * Right child in tree.
+         */
+        private TreeNode<K, V> right;
+
+        /**
+         * Previous entry in list of slot.
+         */
+        private TreeNode<K, V> previous;
+
+        /**
+         * Root of tree. Set only in first entry of slot, <code>null</code>
+         * in other entries and in first entry of slot stored as list.
+         */
+        private TreeNode<K, V> binRoot;
+
+        /**
+         * Height of subtree with this node as root.
+         */
+        private int height;
+
+        /**
+         * Constructs new tree node.
+         *
+         * @param key key of entry.
+         * @param value value of entry.
+         * @param hash spread hash code of key.
+         */
+        private TreeNode(K key, V value, int hash) {
+            super(key, value, null, hash);
+            this.height = 1;
+        }
+
+        /**
+         * Clears references of tree and sets previous entry in list.
+         *
+         * @param previous previous entry in list.
+         */
+        private void reset(TreeNode<K, V> previous) {
+            this.left = null;
+            this.right = null;
+            this.binRoot = null;
+            this.height = 1;
+            this.previous = previous;
+            this.next = null;
+        }
+
+        /**
+         * Sets height of this node from heights of its children.
+         */
+        private void updateHeight() {
+            this.height = Math.max(height(this.left), height(this.right)) + 1;
+        }
+
+        /**
+         * @param node node of tree or <code>null</code>.
+         * @return returns height of subtree with given root, 0 for <code>null</code>.
+         */
+        private static int height(TreeNode<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
 
     /**
      * Model of one entry in hash map.
@@ -439,7 +1449,13 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
         /**
          * Reference to next entry in this slot.
          */
-        private TableEntry<K, V> next;
+        TableEntry<K, V> next;
+
+        /**
+         * Spread hash code of key remembered so it is not calculated again
+         * on resizing and so keys with different hash codes are not compared.
+         */
+        final int hash;
 
         /**
          * Constructs new entry.
@@ -448,9 +1464,22 @@ public class SimpleHashtable<K, V> implements Iterable<SimpleHashtable.TableEntr
          * @param value value of entry.
          */
         public TableEntry(K key, V value, TableEntry<K, V> entry) {
+            this(key, value, entry, 0);
+        }
+
+        /**
+         * Constructs new entry with remembered spread hash code of key.
+         *
+         * @param key key of entry.
+         * @param value value of entry.
+         * @param entry next entry in same slot.
+         * @param hash spread hash code of key.
+         */
+        TableEntry(K key, V value, TableEntry<K, V> entry, int hash) {
             this.key = key;
             this.value = value;
             this.next = entry;
+            this.hash = hash;
         }
 
         /**
@@ -0,0 +1,18 @@
+package hr.fer.oprpp1.custom.collections;
+
+/**
+ * Model of object that transforms given object into some other object.
+ *
+ * @param <T> type of given object.
+ * @param <R> type of result.
+ */
+public interface Transformer<T, R> {
+
+    /**
+     * Returns result of transformation of given object.
+     *
+     * @param value object to transform.
+     * @return returns result of transformation.
+     */
+    R transform(T value);
+}
@@ -0,0 +1,461 @@
+package hr.fer.oprpp1.custom.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Model of unrolled linked list-backed collection of objects. Every node of list
+ * holds small array of elements, so there is one node per many elements and
+ * neighbouring elements are stored next to each other in memory. Inserting and
+ * removing shifts elements only inside one node.
+ */
+public class UnrolledLinkedListIndexedCollection<T> implements List<T> {
+
+    /**
+     * Maximal number of elements stored in one node.
+     */
+    static final int NODE_CAPACITY = 32;
+
+    /**
+     * Node of unrolled linked list.
+     */
+    private static class ListNode {
+
+        /**
+         * Reference to previous node in collection.
+         */
+        private ListNode previous;
+
+        /**
+         * Reference to next node in collection.
+         */
+        private ListNode next;
+
+        /**
+         * Elements stored in node, first <code>count</code> of them are used.
+         */
+        private final Object[] elements = new Object[NODE_CAPACITY];
+
+        /**
+         * Number of elements stored in node.
+         */
+        private int count;
+    }
+
+    /**
+     * Number of currently stored elements in this collection.
+     */
+    private int size;
+
+    /**
+     * Reference to first node in this list.
+     */
+    private ListNode first;
+
+    /**
+     * Reference to last node in this list.
+     */
+    private ListNode last;
+
+    /**
+     * Counter incremented with each structural change of collection.
+     */
+    private long modificationCount = 0;
+
+    /**
+     * Node found by last call of {@link #locate(int)}.
+     */
+    private ListNode located;
+
+    /**
+     * Index of element inside node found by last call of {@link #locate(int)}.
+     */
+    private int locatedOffset;
+
+    /**
+     * Constructing new empty UnrolledLinkedListIndexedCollection
+     */
+    public UnrolledLinkedListIndexedCollection() {
+    }
+
+    /**
+     * Constructing new UnrolledLinkedListIndexedCollection from given collection.
+     *
+     * @param collection given collection.
+     * @throws NullPointerException if given collection is null.
+     */
+    public UnrolledLinkedListIndexedCollection(Collection<? extends T> collection) {
+        if (collection == null)
+            throw new NullPointerException("Given collection is null");
+        this.addAll(collection);
+    }
+
+    /**
+     * Returns the number of currently stored objects in this collection.
+     *
+     * @return number of currently stored objects in this collection
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds given object at the end of this collection.
+     *
+     * @param value object to add in collection
+     * @throws NullPointerException if given value is null
+     */
+    @Override
+    public void add(T value) {
+        if (value == null)
+            throw new NullPointerException("Can not add null into collection");
+        this.modificationCount++;
+        if (this.last == null || this.last.count == NODE_CAPACITY)
+            linkAfter(this.last, new ListNode());
+        this.last.elements[this.last.count++] = value;
+        this.size++;
+    }
+
+    /**
+     * Links given new node after given node, or as first node if given node is <code>null</code>.
+     *
+     * @param node node after which new node is linked.
+     * @param newNode new node.
+     */
+    private void linkAfter(ListNode node, ListNode newNode) {
+        newNode.previous = node;
+        newNode.next = node == null ? this.first : node.next;
+        if (newNode.next == null)
+            this.last = newNode;
+        else
+            newNode.next.previous = newNode;
+        if (node == null)
+            this.first = newNode;
+        else
+            node.next = newNode;
+    }
+
+    /**
+     * Unlinks given node from list.
+     *
+     * @param node node to unlink.
+     */
+    private void unlink(ListNode node) {
+        if (node.previous == null)
+            this.first = node.next;
+        else
+            node.previous.next = node.next;
+        if (node.next == null)
+            this.last = node.previous;
+        else
+            node.next.previous = node.previous;
+    }
+
+    /**
+     * Finds node which holds element on given index and index of element
+     * inside that node. Nodes are walked from nearer end of list.
+     * Results are stored in <code>located</code> and <code>locatedOffset</code>.
+     *
+     * @param index index of element, between 0 and size-1.
+     */
+    private void locate(int index) {
+        if (index < this.size / 2) {
+            ListNode node = this.first;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+            this.located = node;
+            this.locatedOffset = index;
+        } else {
+            ListNode node = this.last;
+            int fromEnd = this.size - 1 - index;
+            while (fromEnd >= node.count) {
+                fromEnd -= node.count;
+                node = node.previous;
+            }
+            this.located = node;
+            this.locatedOffset = node.count - 1 - fromEnd;
+        }
+    }
+
+    /**
+     * Removes all elements from this collection. Nodes are dropped at once and left to garbage collector.
+     */
+    @Override
+    public void clear() {
+        this.modificationCount++;
+        this.first = null;
+        this.last = null;
+        this.located = null;
+        this.size = 0;
+    }
+
+    /**
+     * Returns true only if collection contains given object.
+     *
+     * @param value object to check if it is in this collection.
+     * @return true if collection contains given object and false otherwise.
+     */
+    @Override
+    public boolean contains(Object value) {
+        for (ListNode node = this.first; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (node.elements[i].equals(value))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true only if the collection contains given value and removes
+     * one occurrence of it.
+     *
+     * @param value Object to remove.
+     * @return returns true only if the collection contains given value and removes one occurrence of it.
+     */
+    @Override
+    public boolean remove(T value) {
+        int index = indexOf(value);
+        if (index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Allocates new array with size equals to the size of this collection and
+     * fills it with content of nodes, one copy per node.
+     *
+     * @return new array of objects contained in this collection.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[this.size];
+        int index = 0;
+        for (ListNode node = this.first; node != null; node = node.next) {
+            System.arraycopy(node.elements, 0, array, index, node.count);
+            index += node.count;
+        }
+        return array;
+    }
+
+    /**
+     * Returns the object that is stored in this collection at position <code>index</code>.
+     *
+     * @param index index of object in list
+     * @return Returns the object that is stored in this collection at position <code>index</code>.
+     * @throws IndexOutOfBoundsException if <code>index</code> is smaller than 0 or greater than size-1 of this collection.
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index > this.size - 1)
+            throw new IndexOutOfBoundsException("There is no element at position " + index + "!");
+        locate(index);
+        return (T) this.located.elements[this.locatedOffset];
+    }
+
+    /**
+     * Inserts the given value at the given position. If node which should hold
+     * new element is full, half of its elements are moved to new node after it.
+     *
+     * @param value Value to insert into this collection.
+     * @param position Position on which object will be inserted.
+     * @throws IndexOutOfBoundsException if position is smaller than 0 or greater than size of collection.
+     * @throws NullPointerException if given value is <code>null</code>.
+     */
+    @Override
+    public void insert(T value, int position) {
+        if (value == null)
+            throw new NullPointerException("Can not insert null!");
+        if (position < 0 || position > this.size)
+            throw new IndexOutOfBoundsException("Can not insert element on position " + position + "!");
+        if (position == this.size) {
+            add(value);
+            return;
+        }
+
+        this.modificationCount++;
+        locate(position);
+        ListNode node = this.located;
+        int offset = this.locatedOffset;
+        if (node.count == NODE_CAPACITY) {
+            ListNode newNode = new ListNode();
+            int half = NODE_CAPACITY / 2;
+            System.arraycopy(node.elements, half, newNode.elements, 0, NODE_CAPACITY - half);
+            Arrays.fill(node.elements, half, NODE_CAPACITY, null);
+            newNode.count = NODE_CAPACITY - half;
+            node.count = half;
+            linkAfter(node, newNode);
+            if (offset > half) {
+                node = newNode;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = value;
+        node.count++;
+        this.size++;
+    }
+
+    /**
+     * Searches the collection and returns the index of the first occurrence
+     * of the given value or -1 if the value is not found
+     *
+     * @param value value to search.
+     * @return index of first occurrence of the given value or -1 if the value is not found
+     */
+    @Override
+    public int indexOf(T value) {
+        int index = 0;
+        for (ListNode node = this.first; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++, index++) {
+                if (node.elements[i].equals(value))
+                    return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes element at specific <code>index</code> from collection. Node which becomes
+     * empty is unlinked and node which becomes less than quarter full is merged with
+     * next node if their elements fit in one node.
+     *
+     * @param index position of element which will be removed.
+     * @throws IndexOutOfBoundsException if <code>index</code> is smaller than 0 or greater than size-1 of this collection.
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Can not remove element from position " + index + ".");
+
+        this.modificationCount++;
+        locate(index);
+        ListNode node = this.located;
+        int offset = this.locatedOffset;
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        this.size--;
+
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < NODE_CAPACITY / 4 && node.next != null && node.count + node.next.count <= NODE_CAPACITY) {
+            ListNode next = node.next;
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        }
+    }
+
+    /**
+     * Creates new ElementsGetter.
+     *
+     * @return returns new ElementsGetter.
+     */
+    @Override
+    public ElementsGetter<T> createElementsGetter() {
+        return new UnrolledLinkedListIndexedCollectionElementsGetter<>(this);
+    }
+
+    /**
+     * Model of object which returns elements from collection
+     */
+    private static class UnrolledLinkedListIndexedCollectionElementsGetter<T> implements ElementsGetter<T> {
+
+        /**
+         * Reference to collection to get elements.
+         */
+        private final UnrolledLinkedListIndexedCollection<T> collection;
+
+        /**
+         * Node which holds next element to return.
+         */
+        private ListNode node;
+
+        /**
+         * Index of next element inside its node.
+         */
+        private int offset;
+
+        /**
+         * Modification count in moment of creating new object of type ElementsGetter.
+         */
+        private final long savedModificationCount;
+
+        /**
+         * Constructs new ElementsGetter.
+         */
+        private UnrolledLinkedListIndexedCollectionElementsGetter(UnrolledLinkedListIndexedCollection<T> col) {
+            this.collection = col;
+            this.node = col.first;
+            this.savedModificationCount = col.modificationCount;
+        }
+
+        /**
+         * Throws exception if collection has been modified since declaration of this ElementsGetter.
+         */
+        private void checkModification() {
+            if (this.savedModificationCount != this.collection.modificationCount)
+                throw new ConcurrentModificationException("Collection has been modified since declaration of this ElementsGetter.");
+        }
+
+        /**
+         * Returns true only if there is more elements of collection to get.
+         *
+         * @return returns true only if there is more elements of collection to get, false otherwise.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public boolean hasNextElement() {
+            checkModification();
+            return this.node != null;
+        }
+
+        /**
+         * Returns next element from collection.
+         *
+         * @return returns next element from collection.
+         * @throws NoSuchElementException if all elements of collection are given.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public T getNextElement() {
+            if (!hasNextElement())
+                throw new NoSuchElementException("No more elements to get.");
+            T value = (T) this.node.elements[this.offset++];
+            if (this.offset == this.node.count) {
+                this.node = this.node.next;
+                this.offset = 0;
+            }
+            return value;
+        }
+
+        /**
+         * Copies next elements of collection into given buffer with one check of modification.
+         *
+         * @param buffer array in which elements are copied.
+         * @return returns number of copied elements, 0 if all elements of collection are given.
+         * @throws ConcurrentModificationException if collection has been modified since declaration of this ElementsGetter
+         */
+        @Override
+        public int getNextElements(Object[] buffer) {
+            checkModification();
+            int count = 0;
+            while (count < buffer.length && this.node != null) {
+                int copied = Math.min(buffer.length - count, this.node.count - this.offset);
+                System.arraycopy(this.node.elements, this.offset, buffer, count, copied);
+                count += copied;
+                this.offset += copied;
+                if (this.offset == this.node.count) {
+                    this.node = this.node.next;
+                    this.offset = 0;
+                }
+            }
+            return count;
+        }
+    }
+}
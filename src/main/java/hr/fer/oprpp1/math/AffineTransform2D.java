@@ -0,0 +1,167 @@
+package hr.fer.oprpp1.math;
+
+/**
+ * Model of immutable affine transformation of two dimensional vectors, stored as matrix
+ * <pre>
+ * | a  c  e |
+ * | b  d  f |
+ * </pre>
+ * which maps vector (x, y) to (a*x + c*y + e, b*x + d*y + f).
+ * Translations, rotations and scalings are concatenated into one matrix,
+ * so any number of them is applied to vector with single multiplication.
+ */
+public final class AffineTransform2D {
+
+    /**
+     * Transformation which does not change vectors.
+     */
+    private static final AffineTransform2D IDENTITY = new AffineTransform2D(1, 0, 0, 1, 0, 0);
+
+    /**
+     * Elements of transformation matrix.
+     */
+    final double a, b, c, d, e, f;
+
+    /**
+     * Constructs new transformation with given elements of matrix.
+     *
+     * @param a element in first row and first column.
+     * @param b element in second row and first column.
+     * @param c element in first row and second column.
+     * @param d element in second row and second column.
+     * @param e x component of translation.
+     * @param f y component of translation.
+     */
+    public AffineTransform2D(double a, double b, double c, double d, double e, double f) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+    }
+
+    /**
+     * @return returns transformation which does not change vectors.
+     */
+    public static AffineTransform2D identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * @param offset vector which is added to transformed vectors.
+     * @return returns transformation which adds given offset to vectors.
+     */
+    public static AffineTransform2D translation(Vector2D offset) {
+        return new AffineTransform2D(1, 0, 0, 1, offset.getX(), offset.getY());
+    }
+
+    /**
+     * @param angle angle of rotation.
+     * @return returns transformation which rotates vectors for given angle.
+     */
+    public static AffineTransform2D rotation(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new AffineTransform2D(cos, sin, -sin, cos, 0, 0);
+    }
+
+    /**
+     * @param scaler scale factor.
+     * @return returns transformation which scales vectors for given scale factor.
+     */
+    public static AffineTransform2D scaling(double scaler) {
+        return new AffineTransform2D(scaler, 0, 0, scaler, 0, 0);
+    }
+
+    /**
+     * Returns transformation which first applies this transformation and then given one.
+     *
+     * @param next transformation applied after this one.
+     * @return returns concatenated transformation.
+     */
+    public AffineTransform2D then(AffineTransform2D next) {
+        return new AffineTransform2D(
+                next.a * this.a + next.c * this.b,
+                next.b * this.a + next.d * this.b,
+                next.a * this.c + next.c * this.d,
+                next.b * this.c + next.d * this.d,
+                next.a * this.e + next.c * this.f + next.e,
+                next.b * this.e + next.d * this.f + next.f);
+    }
+
+    /**
+     * Returns transformation which first applies this transformation and then adds given offset.
+     *
+     * @param offset vector which is added to transformed vectors.
+     * @return returns concatenated transformation.
+     */
+    public AffineTransform2D translate(Vector2D offset) {
+        return new AffineTransform2D(this.a, this.b, this.c, this.d, this.e + offset.getX(), this.f + offset.getY());
+    }
+
+    /**
+     * Returns transformation which first applies this transformation and then rotates for given angle.
+     *
+     * @param angle angle of rotation.
+     * @return returns concatenated transformation.
+     */
+    public AffineTransform2D rotate(double angle) {
+        return then(rotation(angle));
+    }
+
+    /**
+     * Returns transformation which first applies this transformation and then scales for given scale factor.
+     *
+     * @param scaler scale factor.
+     * @return returns concatenated transformation.
+     */
+    public AffineTransform2D scale(double scaler) {
+        return new AffineTransform2D(this.a * scaler, this.b * scaler, this.c * scaler,
+                                     this.d * scaler, this.e * scaler, this.f * scaler);
+    }
+
+    /**
+     * Transforms given vector in place.
+     *
+     * @param vector vector which is transformed.
+     */
+    public void apply(Vector2D vector) {
+        double x = vector.getX();
+        double y = vector.getY();
+        vector.set(this.a * x + this.c * y + this.e, this.b * x + this.d * y + this.f);
+    }
+
+    /**
+     * Returns new vector as result of transformation of given vector.
+     *
+     * @param vector vector which is transformed.
+     * @return returns new transformed vector.
+     */
+    public Vector2D applied(Vector2D vector) {
+        double x = vector.getX();
+        double y = vector.getY();
+        return new Vector2D(this.a * x + this.c * y + this.e, this.b * x + this.d * y + this.f);
+    }
+
+    /**
+     * Transforms all vectors of given array in place.
+     *
+     * @param vectors array of vectors which are transformed.
+     */
+    public void apply(Vector2DArray vectors) {
+        vectors.transform(this);
+    }
+
+    /**
+     * Transforms vectors of given array with indices from <code>from</code> inclusive to <code>to</code> exclusive.
+     *
+     * @param vectors array of vectors which are transformed.
+     * @param from index of first transformed vector.
+     * @param to index after last transformed vector.
+     * @throws IndexOutOfBoundsException if range is not inside given array.
+     */
+    public void apply(Vector2DArray vectors, int from, int to) {
+        vectors.transform(this, from, to);
+    }
+}
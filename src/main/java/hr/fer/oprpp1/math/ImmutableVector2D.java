@@ -0,0 +1,134 @@
+package hr.fer.oprpp1.math;
+
+/**
+ * Model of immutable two dimensional vector. Every operation returns new vector,
+ * components of vector never change after construction, so vectors can be
+ * shared freely and no defensive copies are needed. Every operation allocates
+ * new vector; JIT compiler can remove that allocation only when escape
+ * analysis proves intermediate vectors of chain of operations do not leave
+ * method.
+ */
+public final class ImmutableVector2D {
+
+    /**
+     * Vector with both components equal to zero.
+     */
+    public static final ImmutableVector2D ZERO = new ImmutableVector2D(0, 0);
+
+    /**
+     * X component of vector.
+     */
+    private final double x;
+
+    /**
+     * Y component of vector.
+     */
+    private final double y;
+
+    /**
+     * Constructs new immutable 2D-vector.
+     *
+     * @param x argument with unit vector "i".
+     * @param y argument with unit vector "j".
+     */
+    public ImmutableVector2D(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns new immutable vector with components of given vector.
+     *
+     * @param vector vector whose components are copied.
+     * @return returns new immutable vector.
+     */
+    public static ImmutableVector2D of(Vector2D vector) {
+        return new ImmutableVector2D(vector.getX(), vector.getY());
+    }
+
+    /**
+     * @return returns x component of this vector.
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * @return returns y component of this vector.
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Returns new vector as result of addition.
+     *
+     * @param offset second addend in addition.
+     * @return returns new vector as result of addition
+     */
+    public ImmutableVector2D added(ImmutableVector2D offset) {
+        return new ImmutableVector2D(this.x + offset.x, this.y + offset.y);
+    }
+
+    /**
+     * Returns new vector as result of rotation.
+     *
+     * @param angle angle of rotation.
+     * @return returns new vector as result of rotation.
+     */
+    public ImmutableVector2D rotated(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new ImmutableVector2D(this.x * cos - this.y * sin, this.x * sin + this.y * cos);
+    }
+
+    /**
+     * Returns new vector as result of scaling.
+     *
+     * @param scaler scale factor
+     * @return returns new vector as result of scaling.
+     */
+    public ImmutableVector2D scaled(double scaler) {
+        return new ImmutableVector2D(this.x * scaler, this.y * scaler);
+    }
+
+    /**
+     * Returns new vector as result of given affine transformation.
+     *
+     * @param transform transformation applied to this vector.
+     * @return returns new transformed vector.
+     */
+    public ImmutableVector2D transformed(AffineTransform2D transform) {
+        return new ImmutableVector2D(transform.a * this.x + transform.c * this.y + transform.e,
+                                     transform.b * this.x + transform.d * this.y + transform.f);
+    }
+
+    /**
+     * Returns mutable vector with components of this vector.
+     *
+     * @return returns new mutable vector.
+     */
+    public Vector2D toVector2D() {
+        return new Vector2D(this.x, this.y);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ImmutableVector2D))
+            return false;
+        ImmutableVector2D other = (ImmutableVector2D) o;
+        return Double.compare(this.x, other.x) == 0 && Double.compare(this.y, other.y) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(this.x) + Double.hashCode(this.y);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.x + ", " + this.y + ")";
+    }
+}
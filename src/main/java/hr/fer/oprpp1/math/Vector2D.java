@@ -40,6 +40,17 @@ public class Vector2D {
         return this.y;
     }
 
+    /**
+     * Sets components of this vector.
+     *
+     * @param x new x component.
+     * @param y new y component.
+     */
+    void set(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
     /**
      * Modifies this vector and add offset to it's components.
      *
@@ -0,0 +1,272 @@
+package hr.fer.oprpp1.math;
+
+/**
+ * Model of fixed number of two dimensional vectors stored as two arrays,
+ * one with x components and one with y components of all vectors.
+ * Vectors can be transformed in bulk over range of indices. Components of
+ * neighbouring vectors are next to each other in memory and every bulk
+ * operation is simple loop over primitive arrays, which JIT compiler can
+ * turn into SIMD instructions.
+ */
+public class Vector2DArray {
+
+    /**
+     * X components of vectors.
+     */
+    private final double[] xs;
+
+    /**
+     * Y components of vectors.
+     */
+    private final double[] ys;
+
+    /**
+     * Constructs new array of given number of zero vectors.
+     *
+     * @param length number of vectors.
+     * @throws IllegalArgumentException if given <code>length</code> is negative.
+     */
+    public Vector2DArray(int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("Length can not be negative! It was " + length + ".");
+        this.xs = new double[length];
+        this.ys = new double[length];
+    }
+
+    /**
+     * Constructs new array with components of given vectors.
+     *
+     * @param vectors vectors whose components are copied.
+     * @throws NullPointerException if given array or some of its vectors is <code>null</code>.
+     */
+    public Vector2DArray(Vector2D[] vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++)
+            set(i, vectors[i]);
+    }
+
+    /**
+     * @return returns number of vectors in this array.
+     */
+    public int length() {
+        return this.xs.length;
+    }
+
+    /**
+     * @param index index of vector.
+     * @return returns x component of vector on given index.
+     * @throws IndexOutOfBoundsException if given <code>index</code> is not valid.
+     */
+    public double getX(int index) {
+        return this.xs[index];
+    }
+
+    /**
+     * @param index index of vector.
+     * @return returns y component of vector on given index.
+     * @throws IndexOutOfBoundsException if given <code>index</code> is not valid.
+     */
+    public double getY(int index) {
+        return this.ys[index];
+    }
+
+    /**
+     * Returns new vector with components of vector on given index.
+     *
+     * @param index index of vector.
+     * @return returns new vector with components of vector on given index.
+     * @throws IndexOutOfBoundsException if given <code>index</code> is not valid.
+     */
+    public Vector2D get(int index) {
+        return new Vector2D(this.xs[index], this.ys[index]);
+    }
+
+    /**
+     * Sets components of vector on given index.
+     *
+     * @param index index of vector.
+     * @param x x component.
+     * @param y y component.
+     * @throws IndexOutOfBoundsException if given <code>index</code> is not valid.
+     */
+    public void set(int index, double x, double y) {
+        this.xs[index] = x;
+        this.ys[index] = y;
+    }
+
+    /**
+     * Sets components of vector on given index to components of given vector.
+     *
+     * @param index index of vector.
+     * @param vector vector whose components are copied.
+     * @throws IndexOutOfBoundsException if given <code>index</code> is not valid.
+     */
+    public void set(int index, Vector2D vector) {
+        set(index, vector.getX(), vector.getY());
+    }
+
+    /**
+     * Adds given offset to all vectors of this array.
+     *
+     * @param offset vector which will be added to vectors.
+     */
+    public void translate(Vector2D offset) {
+        translate(offset, 0, length());
+    }
+
+    /**
+     * Adds given offset to vectors with indices from <code>from</code> inclusive to <code>to</code> exclusive.
+     *
+     * @param offset vector which will be added to vectors.
+     * @param from index of first translated vector.
+     * @param to index after last translated vector.
+     * @throws IndexOutOfBoundsException if range is not inside this array.
+     */
+    public void translate(Vector2D offset, int from, int to) {
+        checkRange(from, to);
+        double dx = offset.getX();
+        double dy = offset.getY();
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] += dx;
+            ys[i] += dy;
+        }
+    }
+
+    /**
+     * Adds vectors of other array to vectors of this array with same indices.
+     *
+     * @param other array whose vectors are added.
+     * @throws IllegalArgumentException if arrays do not have same length.
+     */
+    public void add(Vector2DArray other) {
+        if (other.length() != length())
+            throw new IllegalArgumentException("Arrays must have same length! It was " + length() + " and " + other.length() + ".");
+        add(other, 0, length());
+    }
+
+    /**
+     * Adds vectors of other array to vectors of this array with same indices,
+     * for indices from <code>from</code> inclusive to <code>to</code> exclusive.
+     *
+     * @param other array whose vectors are added.
+     * @param from index of first vector.
+     * @param to index after last vector.
+     * @throws IndexOutOfBoundsException if range is not inside both arrays.
+     */
+    public void add(Vector2DArray other, int from, int to) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] otherXs = other.xs;
+        double[] otherYs = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] += otherXs[i];
+            ys[i] += otherYs[i];
+        }
+    }
+
+    /**
+     * Rotates all vectors of this array for given angle.
+     *
+     * @param angle angle of rotation.
+     */
+    public void rotate(double angle) {
+        rotate(angle, 0, length());
+    }
+
+    /**
+     * Rotates vectors with indices from <code>from</code> inclusive to <code>to</code> exclusive for given angle.
+     *
+     * @param angle angle of rotation.
+     * @param from index of first rotated vector.
+     * @param to index after last rotated vector.
+     * @throws IndexOutOfBoundsException if range is not inside this array.
+     */
+    public void rotate(double angle, int from, int to) {
+        checkRange(from, to);
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            xs[i] = x * cos - y * sin;
+            ys[i] = x * sin + y * cos;
+        }
+    }
+
+    /**
+     * Scales all vectors of this array for given scale factor.
+     *
+     * @param scaler scale factor.
+     */
+    public void scale(double scaler) {
+        scale(scaler, 0, length());
+    }
+
+    /**
+     * Scales vectors with indices from <code>from</code> inclusive to <code>to</code> exclusive for given scale factor.
+     *
+     * @param scaler scale factor.
+     * @param from index of first scaled vector.
+     * @param to index after last scaled vector.
+     * @throws IndexOutOfBoundsException if range is not inside this array.
+     */
+    public void scale(double scaler, int from, int to) {
+        checkRange(from, to);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] *= scaler;
+            ys[i] *= scaler;
+        }
+    }
+
+    /**
+     * Transforms all vectors of this array with given affine transformation.
+     *
+     * @param transform transformation applied to vectors.
+     */
+    public void transform(AffineTransform2D transform) {
+        transform(transform, 0, length());
+    }
+
+    /**
+     * Transforms vectors with indices from <code>from</code> inclusive to <code>to</code> exclusive
+     * with given affine transformation in single pass.
+     *
+     * @param transform transformation applied to vectors.
+     * @param from index of first transformed vector.
+     * @param to index after last transformed vector.
+     * @throws IndexOutOfBoundsException if range is not inside this array.
+     */
+    public void transform(AffineTransform2D transform, int from, int to) {
+        checkRange(from, to);
+        double a = transform.a, b = transform.b, c = transform.c;
+        double d = transform.d, e = transform.e, f = transform.f;
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            xs[i] = a * x + c * y + e;
+            ys[i] = b * x + d * y + f;
+        }
+    }
+
+    /**
+     * Checks if given range is inside this array.
+     *
+     * @param from start of range, inclusive.
+     * @param to end of range, exclusive.
+     * @throws IndexOutOfBoundsException if range is not inside this array.
+     */
+    void checkRange(int from, int to) {
+        if (from < 0 || to > this.xs.length || from > to)
+            throw new IndexOutOfBoundsException("Range must be inside 0 to " + this.xs.length + ". It was from " + from + " to " + to + ".");
+    }
+}
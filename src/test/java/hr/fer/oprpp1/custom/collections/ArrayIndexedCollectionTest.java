@@ -0,0 +1,80 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayIndexedCollectionTest {
+
+    private static ArrayIndexedCollection<Integer> numbers(int size) {
+        ArrayIndexedCollection<Integer> col = new ArrayIndexedCollection<>(1);
+        for (int i = 0; i < size; i++)
+            col.add(i);
+        return col;
+    }
+
+    @Test
+    public void addGrowsBeyondDefaultCapacityTest() {
+        ArrayIndexedCollection<Integer> col = new ArrayIndexedCollection<>();
+        for (int i = 0; i < 100; i++)
+            col.add(i);
+        assertEquals(100, col.size());
+        for (int i = 0; i < 100; i++)
+            assertEquals(i, col.get(i));
+    }
+
+    @Test
+    public void insertAndRemoveShiftElementsTest() {
+        ArrayIndexedCollection<Integer> col = numbers(5);
+        col.insert(-1, 0);
+        col.insert(-2, 3);
+        col.insert(-3, 7);
+        assertArrayEquals(new Object[]{-1, 0, 1, -2, 2, 3, 4, -3}, col.toArray());
+        col.remove(0);
+        col.remove(6);
+        col.remove(2);
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4}, col.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> col.insert(5, 6));
+    }
+
+    @Test
+    public void insertAllTest() {
+        ArrayIndexedCollection<Integer> col = numbers(4);
+        col.insertAll(numbers(3), 2);
+        assertArrayEquals(new Object[]{0, 1, 0, 1, 2, 2, 3}, col.toArray());
+        col.insertAll(col, 7);
+        assertEquals(14, col.size());
+        assertEquals(3, col.get(13));
+        col.insertAll(new LinkedListIndexedCollection<>(), 0);
+        assertEquals(14, col.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> col.insertAll(numbers(1), 15));
+    }
+
+    @Test
+    public void removeRangeTest() {
+        ArrayIndexedCollection<Integer> col = numbers(10);
+        col.removeRange(2, 5);
+        assertArrayEquals(new Object[]{0, 1, 5, 6, 7, 8, 9}, col.toArray());
+        col.removeRange(3, 3);
+        col.removeRange(5, 7);
+        assertArrayEquals(new Object[]{0, 1, 5, 6, 7}, col.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> col.removeRange(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> col.removeRange(0, 6));
+        col.removeRange(0, 5);
+        assertTrue(col.isEmpty());
+    }
+
+    @Test
+    public void removeIfTest() {
+        ArrayIndexedCollection<Integer> col = numbers(10);
+        assertTrue(col.removeIf(value -> value % 3 == 0));
+        assertArrayEquals(new Object[]{1, 2, 4, 5, 7, 8}, col.toArray());
+        assertFalse(col.removeIf(value -> value > 100));
+        assertThrows(IllegalStateException.class, () -> col.removeIf(value -> {
+            if (value == 5)
+                throw new IllegalStateException();
+            return value == 2;
+        }));
+        assertArrayEquals(new Object[]{1, 4, 5, 7, 8}, col.toArray());
+    }
+}
@@ -0,0 +1,70 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircularArrayIndexedCollectionTest {
+
+    @Test
+    public void queueLikeUseTest() {
+        CircularArrayIndexedCollection<Integer> col = new CircularArrayIndexedCollection<>(2);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++)
+                col.insert(i, 0);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, col.get(col.size() - 1));
+                col.remove(col.size() - 1);
+            }
+            assertTrue(col.isEmpty());
+            for (int i = 0; i < 50; i++)
+                col.add(i);
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i, col.get(0));
+                col.remove(0);
+            }
+        }
+    }
+
+    @Test
+    public void middleInsertAndRemoveTest() {
+        CircularArrayIndexedCollection<Integer> col = new CircularArrayIndexedCollection<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(7);
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int position = random.nextInt(expected.size() + 1);
+                col.insert(i, position);
+                expected.add(position, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                col.remove(index);
+                expected.remove(index);
+            }
+            assertEquals(expected.size(), col.size());
+        }
+        assertArrayEquals(expected.toArray(), col.toArray());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i), col.get(i));
+        assertEquals(expected.indexOf(expected.get(7)), col.indexOf(expected.get(7)));
+
+        ArrayIndexedCollection<Integer> copy = new ArrayIndexedCollection<>();
+        copy.addAll(col);
+        assertArrayEquals(expected.toArray(), copy.toArray());
+    }
+
+    @Test
+    public void elementsGetterIsFailFastTest() {
+        CircularArrayIndexedCollection<String> col = new CircularArrayIndexedCollection<>();
+        col.add("b");
+        col.insert("a", 0);
+        ElementsGetter<String> getter = col.createElementsGetter();
+        assertEquals("a", getter.getNextElement());
+        col.remove(0);
+        assertThrows(ConcurrentModificationException.class, getter::hasNextElement);
+        assertThrows(NullPointerException.class, () -> col.add(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> col.get(1));
+    }
+}
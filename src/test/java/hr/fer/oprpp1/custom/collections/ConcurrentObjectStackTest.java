@@ -0,0 +1,96 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentObjectStackTest {
+
+    @Test
+    public void testConstructors() {
+        new ConcurrentObjectStack<String>();
+        new ConcurrentObjectStack<String>(4);
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentObjectStack<String>(-1));
+    }
+
+    @Test
+    public void pushPopPeekTest() {
+        ConcurrentObjectStack<Integer> stack = new ConcurrentObjectStack<>();
+        assertTrue(stack.isEmpty());
+        assertNull(stack.tryPop());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+        assertThrows(NullPointerException.class, () -> stack.push(null));
+        for (int i = 0; i < 10; i++)
+            stack.push(i);
+        assertEquals(10, stack.size());
+        assertEquals(9, stack.peek());
+        assertEquals(9, stack.pop());
+        assertEquals(8, stack.tryPop());
+        assertEquals(8, stack.size());
+        stack.clear();
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+    }
+
+    @Test
+    public void pushAllPopNTest() {
+        ConcurrentObjectStack<Integer> stack = new ConcurrentObjectStack<>();
+        stack.push(0);
+        assertThrows(NullPointerException.class, () -> stack.pushAll(new Integer[]{1, null}));
+        assertEquals(1, stack.size());
+        stack.pushAll(new Integer[]{1, 2, 3});
+        assertEquals(4, stack.size());
+        assertEquals(3, stack.peek());
+
+        Integer[] target = new Integer[5];
+        assertThrows(IllegalArgumentException.class, () -> stack.popN(target, 6));
+        assertThrows(EmptyStackException.class, () -> stack.popN(target, 5));
+        assertEquals(4, stack.size());
+        stack.popN(target, 3);
+        assertArrayEquals(new Integer[]{3, 2, 1, null, null}, target);
+        assertEquals(1, stack.size());
+        assertEquals(0, stack.pop());
+    }
+
+    @Test
+    public void concurrentPushPopTest() throws InterruptedException {
+        for (int slots : new int[]{0, 2}) {
+            ConcurrentObjectStack<Integer> stack = new ConcurrentObjectStack<>(slots);
+            int threads = 8;
+            int perThread = 20000;
+            AtomicIntegerArray popped = new AtomicIntegerArray(threads * perThread);
+            Thread[] workers = new Thread[threads];
+            /*exception in worker thread would only stop that thread, so it is rethrown here*/
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                workers[t] = new Thread(() -> {
+                    try {
+                        for (int i = offset; i < offset + perThread; i++) {
+                            stack.push(i);
+                            if ((i & 1) == 0)
+                                popped.incrementAndGet(stack.pop());
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers)
+                worker.join();
+            if (failure.get() != null)
+                throw new AssertionError("Worker thread failed", failure.get());
+            assertEquals(threads * perThread / 2, stack.size());
+            Integer value;
+            while ((value = stack.tryPop()) != null)
+                popped.incrementAndGet(value);
+            for (int i = 0; i < popped.length(); i++)
+                assertEquals(1, popped.get(i));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentSimpleHashtableTest {
+
+    @Test
+    public void testConstructors() {
+        new ConcurrentSimpleHashtable<String, String>();
+        new ConcurrentSimpleHashtable<String, String>(1, 1);
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentSimpleHashtable<String, String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentSimpleHashtable<String, String>(16, 0));
+    }
+
+    @Test
+    public void putGetRemoveTest() {
+        ConcurrentSimpleHashtable<String, Integer> s = new ConcurrentSimpleHashtable<>(1, 4);
+        assertThrows(NullPointerException.class, () -> s.put(null, 1));
+        assertTrue(s.isEmpty());
+        for (int i = 0; i < 1000; i++)
+            assertNull(s.put("key" + i, i));
+        assertEquals(1000, s.size());
+        assertEquals(3, s.put("key3", -3));
+        assertEquals(-3, s.get("key3"));
+        assertNull(s.get("missing"));
+        assertNull(s.get(null));
+        assertTrue(s.containsKey("key999"));
+        assertFalse(s.containsKey(null));
+        assertTrue(s.containsValue(-3));
+        assertFalse(s.containsValue(3));
+        s.put("nullValue", null);
+        assertTrue(s.containsValue(null));
+        assertNull(s.remove("nullValue"));
+        for (int i = 0; i < 1000; i += 2)
+            assertNotNull(s.remove("key" + i));
+        assertNull(s.remove("key0"));
+        assertNull(s.remove(null));
+        assertEquals(500, s.size());
+        s.clear();
+        assertTrue(s.isEmpty());
+        assertEquals("[]", s.toString());
+    }
+
+    @Test
+    public void iteratorTest() {
+        ConcurrentSimpleHashtable<Integer, Integer> s = new ConcurrentSimpleHashtable<>();
+        for (int i = 0; i < 100; i++)
+            s.put(i, i);
+        Iterator<SimpleHashtable.TableEntry<Integer, Integer>> it = s.iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        int count = 0;
+        while (it.hasNext()) {
+            SimpleHashtable.TableEntry<Integer, Integer> entry = it.next();
+            count++;
+            if (entry.getKey() % 2 == 0) {
+                it.remove();
+                assertThrows(IllegalStateException.class, it::remove);
+            } else {
+                entry.setValue(-entry.getKey());
+            }
+            s.put(1000 + count, 0);
+            s.remove(1000 + count);
+        }
+        assertEquals(100, count);
+        assertEquals(50, s.size());
+        assertEquals(-1, s.get(1));
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    public void setValueOfRemovedEntryTest() {
+        ConcurrentSimpleHashtable<Integer, Integer> s = new ConcurrentSimpleHashtable<>();
+        s.put(1, 1);
+        SimpleHashtable.TableEntry<Integer, Integer> entry = s.iterator().next();
+        entry.setValue(2);
+        assertEquals(2, s.get(1));
+        assertEquals(2, entry.getValue());
+        s.remove(1);
+        entry.setValue(3);
+        assertFalse(s.containsKey(1));
+        assertTrue(s.isEmpty());
+        assertEquals(2, entry.getValue());
+    }
+
+    @Test
+    public void concurrentPutRemoveTest() throws InterruptedException {
+        ConcurrentSimpleHashtable<Integer, Integer> s = new ConcurrentSimpleHashtable<>(1, 8);
+        int threads = 8;
+        int perThread = 20000;
+        Thread[] workers = new Thread[threads];
+        /*assertion failing in worker thread would only stop that thread, so it is rethrown here*/
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            workers[t] = new Thread(() -> {
+                try {
+                    for (int i = offset; i < offset + perThread; i++)
+                        s.put(i, i);
+                    for (int i = offset; i < offset + perThread; i += 2)
+                        assertEquals(i, s.remove(i));
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        if (failure.get() != null)
+            throw new AssertionError("Worker thread failed", failure.get());
+        assertEquals(threads * perThread / 2, s.size());
+        for (int i = 0; i < threads * perThread; i++)
+            assertEquals(i % 2 == 0 ? null : i, s.get(i));
+    }
+}
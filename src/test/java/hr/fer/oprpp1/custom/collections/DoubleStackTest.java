@@ -0,0 +1,27 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleStackTest {
+
+    @Test
+    public void pushPopPeekTest() {
+        DoubleStack stack = new DoubleStack();
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+        for (int i = 0; i < 100; i++)
+            stack.push(i / 4.0);
+        assertEquals(100, stack.size());
+        assertEquals(24.75, stack.peek());
+        for (int i = 99; i >= 0; i--)
+            assertEquals(i / 4.0, stack.pop());
+        assertTrue(stack.isEmpty());
+        stack.push(0.5);
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertThrows(EmptyStackException.class, stack::pop);
+    }
+}
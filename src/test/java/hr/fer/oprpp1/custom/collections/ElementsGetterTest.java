@@ -0,0 +1,80 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ElementsGetterTest {
+
+    private static Collection<Integer>[] collectionsOf(int size) {
+        Collection<Integer>[] collections = new Collection[]{new ArrayIndexedCollection<Integer>(),
+                new LinkedListIndexedCollection<Integer>()};
+        for (Collection<Integer> col : collections)
+            for (int i = 0; i < size; i++)
+                col.add(i);
+        return collections;
+    }
+
+    @Test
+    public void getNextElementsTest() {
+        for (Collection<Integer> col : collectionsOf(10)) {
+            ElementsGetter<Integer> getter = col.createElementsGetter();
+            assertEquals(0, getter.getNextElement());
+            Object[] buffer = new Object[4];
+            assertEquals(4, getter.getNextElements(buffer));
+            assertArrayEquals(new Object[]{1, 2, 3, 4}, buffer);
+            assertEquals(4, getter.getNextElements(buffer));
+            assertEquals(1, getter.getNextElements(buffer));
+            assertEquals(9, buffer[0]);
+            assertEquals(0, getter.getNextElements(buffer));
+            assertFalse(getter.hasNextElement());
+        }
+    }
+
+    @Test
+    public void getNextElementsAfterModificationTest() {
+        for (Collection<Integer> col : collectionsOf(3)) {
+            ElementsGetter<Integer> getter = col.createElementsGetter();
+            col.add(3);
+            assertThrows(ConcurrentModificationException.class, () -> getter.getNextElements(new Object[2]));
+        }
+    }
+
+    @Test
+    public void processRemainingTest() {
+        for (Collection<Integer> col : collectionsOf(1000)) {
+            ElementsGetter<Integer> getter = col.createElementsGetter();
+            getter.getNextElement();
+            long[] sum = new long[1];
+            getter.processRemaining(value -> sum[0] += value);
+            assertEquals(499500, sum[0]);
+            assertFalse(getter.hasNextElement());
+
+            ElementsGetter<Integer> modified = col.createElementsGetter();
+            assertThrows(ConcurrentModificationException.class, () -> modified.processRemaining(value -> col.clear()));
+        }
+    }
+
+    @Test
+    public void forEachModifyingProcessorFailsFastTest() {
+        for (Collection<Integer> col : collectionsOf(6)) {
+            ArrayIndexedCollection<Object> visited = new ArrayIndexedCollection<>();
+            assertThrows(ConcurrentModificationException.class, () -> col.forEach(value -> {
+                visited.add(value);
+                col.remove(Integer.valueOf(5 - value));
+            }));
+            assertArrayEquals(new Object[]{0}, visited.toArray());
+            assertEquals(5, col.size());
+        }
+    }
+
+    @Test
+    public void addAllToItselfFailsFastTest() {
+        for (Collection<Integer> col : collectionsOf(4)) {
+            assertThrows(ConcurrentModificationException.class, () -> col.addAll(col));
+            assertEquals(5, col.size());
+        }
+    }
+}
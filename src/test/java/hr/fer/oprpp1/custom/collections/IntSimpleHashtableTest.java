@@ -0,0 +1,99 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntSimpleHashtableTest {
+
+    @Test
+    public void testConstructors() {
+        new IntSimpleHashtable<String>();
+        new IntSimpleHashtable<String>(1);
+        assertThrows(IllegalArgumentException.class, () -> new IntSimpleHashtable<String>(0));
+    }
+
+    @Test
+    public void putGetRemoveTest() {
+        IntSimpleHashtable<String> s = new IntSimpleHashtable<>(1);
+        assertTrue(s.isEmpty());
+        for (int i = -500; i < 500; i++)
+            assertNull(s.put(i * 31, "v" + i));
+        assertEquals(1000, s.size());
+        assertEquals("v0", s.put(0, "zero"));
+        assertEquals("v1", s.put(31, "one"));
+        assertEquals(1000, s.size());
+        assertEquals("zero", s.get(0));
+        assertEquals("one", s.get(31));
+        assertNull(s.get(1));
+        assertTrue(s.containsKey(0));
+        assertTrue(s.containsKey(-500 * 31));
+        assertFalse(s.containsKey(7));
+        assertTrue(s.containsValue("zero"));
+        assertFalse(s.containsValue("v0"));
+        assertEquals(1000, s.keys().length);
+        for (int i = -500; i < 500; i += 2)
+            assertNotNull(s.remove(i * 31));
+        assertNull(s.remove(0));
+        assertFalse(s.containsKey(0));
+        assertEquals(500, s.size());
+        for (int i = -499; i < 500; i += 2)
+            assertEquals(i == 1 ? "one" : "v" + i, s.get(i * 31));
+        s.clear();
+        assertTrue(s.isEmpty());
+        assertEquals("[]", s.toString());
+    }
+
+    @Test
+    public void iteratorTest() {
+        IntSimpleHashtable<Integer> s = new IntSimpleHashtable<>(4);
+        for (int i = 0; i < 100; i++)
+            s.put(i * 16, i);
+        IntSimpleHashtable<Integer>.EntryIterator it = s.iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        assertThrows(IllegalStateException.class, it::getValue);
+        int count = 0;
+        while (it.hasNext()) {
+            int key = it.next();
+            assertEquals(key / 16, it.getValue());
+            count++;
+            if (key % 3 == 0) {
+                it.remove();
+                assertThrows(IllegalStateException.class, it::remove);
+            } else {
+                it.setValue(-it.getValue());
+            }
+        }
+        assertEquals(100, count);
+        assertEquals(66, s.size());
+        assertEquals(-1, s.get(16));
+        assertFalse(s.containsKey(0));
+        assertThrows(NoSuchElementException.class, it::next);
+
+        IntSimpleHashtable<Integer>.EntryIterator iter = s.iterator();
+        iter.next();
+        s.put(5, 5);
+        assertThrows(ConcurrentModificationException.class, iter::hasNext);
+        assertThrows(ConcurrentModificationException.class, iter::next);
+        assertThrows(ConcurrentModificationException.class, iter::remove);
+    }
+
+    @Test
+    public void iteratorRemoveAllTest() {
+        IntSimpleHashtable<String> s = new IntSimpleHashtable<>(16);
+        for (int i = -6; i < 6; i++)
+            s.put(i, "v" + i);
+        IntSimpleHashtable<String>.EntryIterator it = s.iterator();
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+            count++;
+        }
+        assertEquals(12, count);
+        assertTrue(s.isEmpty());
+    }
+}
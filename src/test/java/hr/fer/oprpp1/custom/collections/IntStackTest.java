@@ -0,0 +1,27 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntStackTest {
+
+    @Test
+    public void pushPopPeekTest() {
+        IntStack stack = new IntStack();
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+        for (int i = 0; i < 100; i++)
+            stack.push(i - 50);
+        assertEquals(100, stack.size());
+        assertEquals(49, stack.peek());
+        for (int i = 99; i >= 0; i--)
+            assertEquals(i - 50, stack.pop());
+        assertTrue(stack.isEmpty());
+        stack.push(1);
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertThrows(EmptyStackException.class, stack::pop);
+    }
+}
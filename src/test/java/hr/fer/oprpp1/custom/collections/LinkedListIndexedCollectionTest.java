@@ -0,0 +1,82 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinkedListIndexedCollectionTest {
+
+    @Test
+    public void insertAtFirstAndLastPositionTest() {
+        LinkedListIndexedCollection<Integer> col = new LinkedListIndexedCollection<>();
+        col.add(1);
+        col.add(2);
+        col.insert(0, 0);
+        col.insert(3, 3);
+        assertArrayEquals(new Object[]{0, 1, 2, 3}, col.toArray());
+        assertEquals(0, col.get(0));
+        assertEquals(3, col.get(3));
+    }
+
+    @Test
+    public void removeFirstAndLastElementTest() {
+        LinkedListIndexedCollection<Integer> col = new LinkedListIndexedCollection<>();
+        for (int i = 0; i < 4; i++)
+            col.add(i);
+        col.remove(0);
+        col.remove(2);
+        assertArrayEquals(new Object[]{1, 2}, col.toArray());
+        col.add(4);
+        col.insert(0, 0);
+        assertArrayEquals(new Object[]{0, 1, 2, 4}, col.toArray());
+    }
+
+    @Test
+    public void randomIndexOperationsTest() {
+        LinkedListIndexedCollection<Integer> col = new LinkedListIndexedCollection<>();
+        ArrayList<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int position = random.nextInt(expected.size() + 1);
+                col.insert(i, position);
+                expected.add(position, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                col.remove(index);
+                expected.remove(index);
+            } else {
+                /*walks near previous index use cached node*/
+                int index = Math.min(expected.size() - 1, Math.max(0, col.size() / 2 + random.nextInt(5) - 2));
+                assertEquals(expected.get(index), col.get(index));
+            }
+        }
+        assertArrayEquals(expected.toArray(), col.toArray());
+        for (int i = expected.size() - 1; i >= 0; i--)
+            assertEquals(expected.get(i), col.get(i));
+    }
+
+    @Test
+    public void indexOfAndRemoveValueTest() {
+        LinkedListIndexedCollection<String> col = new LinkedListIndexedCollection<>();
+        assertEquals(-1, col.indexOf("a"));
+        col.add("a");
+        col.add("b");
+        col.add("c");
+        assertEquals(2, col.indexOf("c"));
+        assertEquals("b", col.get(1));
+        assertTrue(col.remove("a"));
+        assertFalse(col.remove("x"));
+        assertEquals("b", col.get(0));
+        assertEquals("c", col.get(1));
+        assertTrue(col.remove("c"));
+        assertTrue(col.remove("b"));
+        assertTrue(col.isEmpty());
+        col.add("d");
+        assertEquals("d", col.get(0));
+    }
+}
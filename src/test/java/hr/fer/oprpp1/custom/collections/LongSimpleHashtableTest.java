@@ -0,0 +1,47 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongSimpleHashtableTest {
+
+    @Test
+    public void putGetRemoveTest() {
+        LongSimpleHashtable<Long> s = new LongSimpleHashtable<>(1);
+        for (long i = -500; i < 500; i++)
+            assertNull(s.put(i << 33, i));
+        assertEquals(1000, s.size());
+        assertEquals(0L, s.put(0, -1L));
+        assertEquals(-1L, s.get(0));
+        assertEquals(7L, s.get(7L << 33));
+        assertNull(s.get(7));
+        assertTrue(s.containsKey(1L << 33));
+        assertFalse(s.containsKey(1L << 32));
+        for (long i = -500; i < 500; i += 2)
+            assertEquals(i == 0 ? -1L : i, s.remove(i << 33));
+        assertEquals(500, s.size());
+        for (long i = -499; i < 500; i += 2)
+            assertEquals(i, s.get(i << 33));
+    }
+
+    @Test
+    public void iteratorTest() {
+        LongSimpleHashtable<Long> s = new LongSimpleHashtable<>(4);
+        for (long i = 0; i < 100; i++)
+            s.put(i << 40, i);
+        LongSimpleHashtable<Long>.EntryIterator it = s.iterator();
+        int count = 0;
+        while (it.hasNext()) {
+            long key = it.next();
+            assertEquals(key >> 40, it.getValue());
+            if ((key >> 40) % 2 == 0)
+                it.remove();
+            count++;
+        }
+        assertEquals(100, count);
+        assertEquals(50, s.size());
+        assertFalse(s.containsKey(0));
+        assertEquals(1L, s.get(1L << 40));
+    }
+}
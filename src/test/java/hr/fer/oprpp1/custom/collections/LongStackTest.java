@@ -0,0 +1,27 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongStackTest {
+
+    @Test
+    public void pushPopPeekTest() {
+        LongStack stack = new LongStack();
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+        for (int i = 0; i < 100; i++)
+            stack.push(i * 100_000_000_000L);
+        assertEquals(100, stack.size());
+        assertEquals(9_900_000_000_000L, stack.peek());
+        for (int i = 99; i >= 0; i--)
+            assertEquals(i * 100_000_000_000L, stack.pop());
+        assertTrue(stack.isEmpty());
+        stack.push(1L);
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertThrows(EmptyStackException.class, stack::pop);
+    }
+}
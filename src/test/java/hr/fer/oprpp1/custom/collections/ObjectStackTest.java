@@ -0,0 +1,46 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectStackTest {
+
+    @Test
+    public void pushPopTest() {
+        ObjectStack<Integer> stack = new ObjectStack<>();
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+        assertThrows(NullPointerException.class, () -> stack.push(null));
+        for (int i = 0; i < 100; i++)
+            stack.push(i);
+        assertEquals(100, stack.size());
+        assertEquals(99, stack.peek());
+        for (int i = 99; i >= 0; i--)
+            assertEquals(i, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void pushAllPopNTest() {
+        ObjectStack<String> stack = new ObjectStack<>();
+        stack.push("a");
+        String[] values = new String[40];
+        for (int i = 0; i < values.length; i++)
+            values[i] = "v" + i;
+        stack.pushAll(values);
+        assertEquals(41, stack.size());
+        assertEquals("v39", stack.peek());
+
+        String[] popped = new String[3];
+        stack.popN(popped, 3);
+        assertArrayEquals(new String[]{"v39", "v38", "v37"}, popped);
+        assertEquals(38, stack.size());
+        assertThrows(EmptyStackException.class, () -> stack.popN(new String[50], 50));
+        assertThrows(IllegalArgumentException.class, () -> stack.popN(new String[1], 2));
+        assertThrows(NullPointerException.class, () -> stack.pushAll(new String[]{"x", null}));
+        assertEquals(38, stack.size());
+        stack.clear();
+        assertTrue(stack.isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelSupportTest {
+
+    private static Collection<Integer> filled(Collection<Integer> collection, int size) {
+        for (int i = 0; i < size; i++)
+            collection.add(i);
+        return collection;
+    }
+
+    @Test
+    public void forEachParallelVisitsEveryElementTest() {
+        for (int size : new int[]{0, 1, ParallelSupport.CHUNK_SIZE, 100000}) {
+            for (Collection<Integer> col : new Collection[]{filled(new ArrayIndexedCollection<>(), size),
+                    filled(new LinkedListIndexedCollection<>(), size)}) {
+                AtomicLong sum = new AtomicLong();
+                AtomicLong count = new AtomicLong();
+                col.forEachParallel(value -> {
+                    sum.addAndGet(value);
+                    count.incrementAndGet();
+                });
+                assertEquals(size, count.get());
+                assertEquals((long) size * (size - 1) / 2, sum.get());
+            }
+        }
+    }
+
+    @Test
+    public void addAllSatisfyingParallelKeepsOrderTest() {
+        Collection<Integer> source = filled(new LinkedListIndexedCollection<>(), 10000);
+        ArrayIndexedCollection<Integer> target = new ArrayIndexedCollection<>();
+        target.add(-1);
+        target.addAllSatisfyingParallel(source, value -> value % 3 == 0);
+        assertEquals(3335, target.size());
+        assertEquals(-1, target.get(0));
+        for (int i = 1; i < target.size(); i++)
+            assertEquals((i - 1) * 3, target.get(i));
+    }
+
+    @Test
+    public void addAllSatisfyingParallelFromArrayTest() {
+        for (int size : new int[]{0, 1, ParallelSupport.CHUNK_SIZE + 1, 100000}) {
+            Collection<Integer> source = filled(new ArrayIndexedCollection<>(), size);
+            ArrayIndexedCollection<Integer> target = new ArrayIndexedCollection<>();
+            target.add(-1);
+            target.addAllSatisfyingParallel(source, value -> value % 3 == 0);
+            assertEquals(1 + (size + 2) / 3, target.size());
+            assertEquals(-1, target.get(0));
+            for (int i = 1; i < target.size(); i++)
+                assertEquals((i - 1) * 3, target.get(i));
+        }
+    }
+
+    @Test
+    public void addAllSatisfyingParallelIntoItselfTest() {
+        ArrayIndexedCollection<Integer> col = (ArrayIndexedCollection<Integer>) filled(new ArrayIndexedCollection<>(), 5000);
+        assertThrows(ConcurrentModificationException.class, () -> col.addAllSatisfyingParallel(col, value -> value % 2 == 0));
+        assertEquals(5000, col.size());
+        col.addAllSatisfyingParallel(col, value -> value < 0);
+        assertEquals(5000, col.size());
+    }
+
+    @Test
+    public void addAllSatisfyingParallelModifiedSourceTest() {
+        ArrayIndexedCollection<Integer> source = (ArrayIndexedCollection<Integer>) filled(new ArrayIndexedCollection<>(), 5000);
+        ArrayIndexedCollection<Integer> target = new ArrayIndexedCollection<>();
+        AtomicBoolean modified = new AtomicBoolean();
+        assertThrows(ConcurrentModificationException.class, () -> target.addAllSatisfyingParallel(source, value -> {
+            if (value == 4000 && modified.compareAndSet(false, true))
+                source.remove(0);
+            return true;
+        }));
+        assertEquals(0, target.size());
+    }
+}
@@ -0,0 +1,62 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PipelineTest {
+
+    private static LinkedListIndexedCollection<Integer> numbers(int size) {
+        LinkedListIndexedCollection<Integer> col = new LinkedListIndexedCollection<>();
+        for (int i = 0; i < size; i++)
+            col.add(i);
+        return col;
+    }
+
+    @Test
+    public void filterMapCollectTest() {
+        ArrayIndexedCollection<String> result = numbers(10).pipeline()
+                .filter(value -> value % 2 == 0)
+                .map(value -> "n" + value)
+                .collect();
+        assertArrayEquals(new Object[]{"n0", "n2", "n4", "n6", "n8"}, result.toArray());
+    }
+
+    @Test
+    public void pipelineIsLazyAndShortCircuitsTest() {
+        int[] tested = new int[1];
+        Pipeline<Integer> pipeline = numbers(1000).pipeline()
+                .filter(value -> {
+                    tested[0]++;
+                    return value % 10 == 0;
+                })
+                .limit(3);
+        assertEquals(0, tested[0]);
+        assertArrayEquals(new Object[]{0, 10, 20}, pipeline.collect().toArray());
+        assertEquals(21, tested[0]);
+        /*every evaluation has its own count of given elements*/
+        assertEquals(3, pipeline.collect().size());
+        assertEquals(0, pipeline.limit(0).collect().size());
+        assertThrows(IllegalArgumentException.class, () -> pipeline.limit(-1));
+    }
+
+    @Test
+    public void parallelPipelineTest() {
+        LinkedListIndexedCollection<Integer> col = numbers(100000);
+        ArrayIndexedCollection<Integer> result = col.pipeline().parallel()
+                .filter(value -> value % 3 == 0)
+                .map(value -> value / 3)
+                .collect();
+        assertEquals(33334, result.size());
+        for (int i = 0; i < result.size(); i++)
+            assertEquals(i, result.get(i));
+
+        AtomicLong sum = new AtomicLong();
+        col.pipeline().parallel().forEach(sum::addAndGet);
+        assertEquals(4999950000L, sum.get());
+
+        assertArrayEquals(new Object[]{0, 1, 2}, col.pipeline().parallel().limit(3).collect().toArray());
+    }
+}
@@ -2,9 +2,12 @@ package hr.fer.oprpp1.custom.collections;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -234,10 +237,10 @@ public class SimpleHashtableTest {
             System.out.printf("%s => %d%n", pair.getKey(), pair.getValue());
             s += pair.getKey() + " => " + pair.getValue() + "\n";
         }
-        assertEquals("Ivana => 5\n" +
-                "Kristina => 5\n" +
-                "Ante => 2\n" +
-                "Jasna => 2\n", s);
+        assertEquals("Ante => 2\n" +
+                "Ivana => 5\n" +
+                "Jasna => 2\n" +
+                "Kristina => 5\n", s);
 
         examMarks.put("Ivana", 2);
         examMarks.put("Ante", 2);
@@ -302,8 +305,435 @@ public class SimpleHashtableTest {
         s.put("k3", null);
         s.put("k4", null);
         Iterator<SimpleHashtable.TableEntry<String,String>> iter = s.iterator();
+        assertThrows(IllegalStateException.class, () -> iter.remove());
+        iter.next();
         iter.remove();
         assertThrows(IllegalStateException.class, () -> iter.remove());
+        assertEquals(3, s.size());
+    }
+
+    @Test
+    public void iteratorOnEmptyTableTest() {
+        SimpleHashtable<String, Integer> s = new SimpleHashtable<>();
+        Iterator<SimpleHashtable.TableEntry<String, Integer>> iter = s.iterator();
+        assertFalse(iter.hasNext());
+        assertThrows(NoSuchElementException.class, iter::next);
+        s.put("a", 1);
+        s.remove("a");
+        assertFalse(s.iterator().hasNext());
+    }
+
+    @Test
+    public void iteratorRemovesEveryOtherEntryTest() {
+        SimpleHashtable<Object, Integer> s = new SimpleHashtable<>(64);
+        for (int i = 0; i < 1000; i++)
+            s.put(i, i);
+        /*colliding keys are stored in tree which must also be unlinked by iterator*/
+        for (int i = 0; i < 20; i++)
+            s.put(new CollidingKey(i), 1000 + i);
+        int visited = 0;
+        Iterator<SimpleHashtable.TableEntry<Object, Integer>> iter = s.iterator();
+        while (iter.hasNext()) {
+            if (iter.next().getValue() % 2 == 0)
+                iter.remove();
+            visited++;
+        }
+        assertEquals(1020, visited);
+        assertEquals(510, s.size());
+        for (int i = 0; i < 1000; i++)
+            assertEquals(i % 2 == 0 ? null : (Integer) i, s.get(i));
+        for (int i = 0; i < 20; i++)
+            assertEquals(i % 2 == 0 ? null : (Integer) (1000 + i), s.get(new CollidingKey(i)));
+        iter = s.iterator();
+        while (iter.hasNext()) {
+            iter.next();
+            iter.remove();
+        }
+        assertTrue(s.isEmpty());
+        assertEquals("[]", s.toString());
+    }
+
+
+    @Test
+    public void openAddressingPutGetRemoveTest() {
+        SimpleHashtable<String, Integer> s = SimpleHashtable.openAddressing(1);
+        assertThrows(NullPointerException.class, () -> s.put(null, 1));
+        for (int i = 0; i < 1000; i++)
+            assertNull(s.put("key" + i, i));
+        assertEquals(1000, s.size());
+        assertEquals(7, s.put("key7", -7));
+        assertEquals(1000, s.size());
+        assertEquals(-7, s.get("key7"));
+        assertNull(s.get("missing"));
+        assertNull(s.get(null));
+        assertTrue(s.containsKey("key999"));
+        assertTrue(s.containsValue(-7));
+        assertFalse(s.containsValue(7));
+        for (int i = 0; i < 1000; i += 2)
+            assertNotNull(s.remove("key" + i));
+        assertNull(s.remove("key0"));
+        assertEquals(500, s.size());
+        for (int i = 1; i < 1000; i += 2)
+            assertTrue(s.containsKey("key" + i));
+        s.clear();
+        assertTrue(s.isEmpty());
+        assertEquals("[]", s.toString());
+    }
+
+    @Test
+    public void openAddressingIteratorTest() {
+        SimpleHashtable<Integer, Integer> s = SimpleHashtable.openAddressing(4);
+        for (int i = 0; i < 100; i++)
+            s.put(i * 7, i);
+        int count = 0;
+        Iterator<SimpleHashtable.TableEntry<Integer, Integer>> it = s.iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        while (it.hasNext()) {
+            SimpleHashtable.TableEntry<Integer, Integer> entry = it.next();
+            count++;
+            if (entry.getValue() % 3 == 0) {
+                it.remove();
+                assertThrows(IllegalStateException.class, it::remove);
+            } else {
+                entry.setValue(-entry.getValue());
+            }
+        }
+        assertEquals(100, count);
+        assertEquals(66, s.size());
+        assertEquals(-1, s.get(7));
+        assertFalse(s.containsKey(21));
+        assertEquals(s.size(), s.toArray().length);
+
+        Iterator<SimpleHashtable.TableEntry<Integer, Integer>> iter = s.iterator();
+        iter.next();
+        s.put(1000, 1);
+        assertThrows(ConcurrentModificationException.class, iter::hasNext);
+        assertThrows(ConcurrentModificationException.class, iter::next);
+        assertThrows(ConcurrentModificationException.class, iter::remove);
+    }
+
+    @Test
+    public void openAddressingIteratorRemoveAllTest() {
+        SimpleHashtable<Integer, String> s = SimpleHashtable.openAddressing(16);
+        for (int i = 0; i < 12; i++)
+            s.put(i * 16 + 15, "v" + i);
+        Iterator<SimpleHashtable.TableEntry<Integer, String>> it = s.iterator();
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+            count++;
+        }
+        assertEquals(12, count);
+        assertTrue(s.isEmpty());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    public void incrementalResizingTest() {
+        SimpleHashtable<Integer, Integer> s = SimpleHashtable.incrementalResizing(2);
+        for (int i = 0; i < 10000; i++) {
+            assertNull(s.put(i, i));
+            assertEquals(i / 2, s.get(i / 2));
+            assertTrue(s.containsKey(i));
+        }
+        assertEquals(10000, s.size());
+        for (int i = 0; i < 10000; i += 3)
+            assertEquals(i, s.remove(i));
+        for (int i = 0; i < 10000; i++)
+            assertEquals(i % 3 != 0, s.containsKey(i));
+        int count = 0;
+        for (SimpleHashtable.TableEntry<Integer, Integer> entry : s) {
+            assertEquals(entry.getKey(), entry.getValue());
+            count++;
+        }
+        assertEquals(s.size(), count);
+        assertEquals(s.size(), s.toArray().length);
+    }
+
+    @Test
+    public void batchOperationsDuringIncrementalResizingTest() {
+        SimpleHashtable<Integer, Integer> s = SimpleHashtable.incrementalResizing(2);
+        for (int size = 1; size < 5000; size++) {
+            /*every put may start or continue migration, batch operations work with both tables*/
+            s.put(size, size);
+            Integer[] values = new Integer[3];
+            s.getAll(new Object[]{1, size, size + 1}, values);
+            assertArrayEquals(new Integer[]{1, size, null}, values);
+        }
+        Object[] keys = new Object[2500];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = 2 * i + 1;
+        s.put(5000, 5000);
+        assertEquals(2500, s.removeAll(keys));
+        assertEquals(2500, s.size());
+        for (int i = 1; i <= 5000; i++)
+            assertEquals(i % 2 == 0 ? (Integer) i : null, s.get(i));
+    }
+
+    @Test
+    public void hashingStrategyTest() {
+        HashingStrategy<byte[]> arrays = new HashingStrategy<>() {
+            @Override
+            public int hashCode(byte[] key) {
+                return Arrays.hashCode(key);
+            }
+
+            @Override
+            public boolean equals(byte[] first, byte[] second) {
+                return Arrays.equals(first, second);
+            }
+        };
+        assertThrows(NullPointerException.class, () -> new SimpleHashtable<byte[], String>(16, null));
+        SimpleHashtable<byte[], String> chained = new SimpleHashtable<>(4, arrays);
+        SimpleHashtable<byte[], String> open = SimpleHashtable.openAddressing(4, arrays);
+        for (SimpleHashtable<byte[], String> s : java.util.List.of(chained, open)) {
+            s.put(new byte[] {1, 2, 3}, "first");
+            assertEquals("first", s.put(new byte[] {1, 2, 3}, "second"));
+            assertEquals(1, s.size());
+            assertEquals("second", s.get(new byte[] {1, 2, 3}));
+            assertTrue(s.containsKey(new byte[] {1, 2, 3}));
+            assertFalse(s.containsKey(new byte[] {1, 2}));
+            assertEquals("second", s.remove(new byte[] {1, 2, 3}));
+            assertTrue(s.isEmpty());
+        }
+    }
+
+    @Test
+    public void hashCodeWithOnlyHigherBitsTest() {
+        SimpleHashtable<Integer, Integer> s = new SimpleHashtable<>(16);
+        s.put(Integer.MIN_VALUE, 1);
+        s.put(1 << 20, 2);
+        s.put(1 << 24, 3);
+        assertEquals(1, s.get(Integer.MIN_VALUE));
+        assertEquals(2, s.get(1 << 20));
+        assertEquals(3, s.get(1 << 24));
+        assertEquals(3, s.size());
+    }
+
+    @Test
+    public void collidingComparableKeysTest() {
+        for (SimpleHashtable<CollidingKey, Integer> s : java.util.List.of(
+                new SimpleHashtable<CollidingKey, Integer>(),
+                SimpleHashtable.<CollidingKey, Integer>incrementalResizing(1))) {
+            for (int i = 0; i < 2000; i++)
+                assertNull(s.put(new CollidingKey(i), i));
+            assertEquals(2000, s.size());
+            assertEquals(5, s.put(new CollidingKey(5), -5));
+            for (int i = 0; i < 2000; i++)
+                assertEquals(i == 5 ? -5 : i, s.get(new CollidingKey(i)));
+            assertNull(s.get(new CollidingKey(5000)));
+            assertNull(s.get("otherClass"));
+            for (int i = 0; i < 2000; i += 2)
+                assertNotNull(s.remove(new CollidingKey(i)));
+            assertNull(s.remove(new CollidingKey(0)));
+            assertEquals(1000, s.size());
+            int count = 0;
+            for (SimpleHashtable.TableEntry<CollidingKey, Integer> entry : s) {
+                assertEquals(1, entry.getKey().id % 2);
+                count++;
+            }
+            assertEquals(1000, count);
+            for (int i = 1; i < 2000; i += 2)
+                assertNotNull(s.remove(new CollidingKey(i)));
+            assertTrue(s.isEmpty());
+            assertEquals("[]", s.toString());
+        }
+    }
+
+    @Test
+    public void collidingKeysOfDifferentClassesTest() {
+        SimpleHashtable<Object, Integer> s = new SimpleHashtable<>();
+        for (int i = 0; i < 100; i++)
+            s.put(new CollidingKey(i), i);
+        s.put(new CollidingKey(-1) {}, -1);
+        for (int i = 0; i < 100; i++)
+            assertEquals(i, s.get(new CollidingKey(i)));
+        assertEquals(101, s.size());
+        for (int i = 0; i < 100; i++)
+            assertEquals(i, s.remove(new CollidingKey(i)));
+        assertEquals(1, s.size());
+    }
+
+    @Test
+    public void putAllArraysTest() {
+        for (SimpleHashtable<Integer, String> s : Arrays.asList(new SimpleHashtable<Integer, String>(2),
+                SimpleHashtable.<Integer, String>incrementalResizing(2), SimpleHashtable.<Integer, String>openAddressing(2))) {
+            s.put(0, "old");
+            Integer[] keys = new Integer[1000];
+            String[] values = new String[1000];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = i;
+                values[i] = "v" + i;
+            }
+            s.putAll(keys, values);
+            assertEquals(1000, s.size());
+            for (int i = 0; i < keys.length; i++)
+                assertEquals("v" + i, s.get(i));
+
+            String[] found = new String[3];
+            s.getAll(new Object[]{5, 2000, "x"}, found);
+            assertArrayEquals(new String[]{"v5", null, null}, found);
+
+            assertEquals(500, s.removeAll(Arrays.copyOf(keys, 500)));
+            assertEquals(0, s.removeAll(Arrays.copyOf(keys, 500)));
+            assertEquals(500, s.size());
+            assertNull(s.get(0));
+            assertEquals("v999", s.get(999));
+        }
+    }
+
+    @Test
+    public void putAllCollectionTest() {
+        ArrayIndexedCollection<SimpleHashtable.TableEntry<String, Integer>> entries = new ArrayIndexedCollection<>(100);
+        ArrayIndexedCollection<String> keys = new ArrayIndexedCollection<>(100);
+        for (int i = 0; i < 100; i++) {
+            entries.add(new SimpleHashtable.TableEntry<>("k" + i, i, null));
+            keys.add("k" + i);
+        }
+        SimpleHashtable<String, Integer> s = new SimpleHashtable<>();
+        s.putAll(entries);
+        assertEquals(100, s.size());
+        Integer[] values = new Integer[100];
+        s.getAll(keys, values);
+        for (int i = 0; i < 100; i++)
+            assertEquals(i, values[i]);
+        assertEquals(100, s.removeAll(keys));
+        assertTrue(s.isEmpty());
+    }
+
+    @Test
+    public void putAllInvalidArgumentsTest() {
+        SimpleHashtable<String, Integer> s = new SimpleHashtable<>();
+        assertThrows(IllegalArgumentException.class, () -> s.putAll(new String[2], new Integer[1]));
+        assertThrows(IllegalArgumentException.class, () -> s.getAll(new Object[2], new Integer[1]));
+        assertThrows(NullPointerException.class, () -> s.putAll(new String[]{"a", null}, new Integer[]{1, 2}));
+        assertEquals(1, s.get("a"));
+    }
+
+    @Test
+    public void putAllRehashesTreeBinsTest() {
+        SimpleHashtable<CollidingKey, Integer> s = new SimpleHashtable<>(64);
+        for (int i = 0; i < 20; i++)
+            s.put(new CollidingKey(i), i);
+        CollidingKey[] keys = new CollidingKey[1000];
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new CollidingKey(i + 20);
+            values[i] = i + 20;
+        }
+        s.putAll(keys, values);
+        assertEquals(1020, s.size());
+        for (int i = 0; i < 1020; i++)
+            assertEquals(i, s.remove(new CollidingKey(i)));
+        assertTrue(s.isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void parallelStreamTest() {
+        for (SimpleHashtable<Integer, Integer> s : Arrays.asList(new SimpleHashtable<Integer, Integer>(),
+                SimpleHashtable.<Integer, Integer>incrementalResizing(2), SimpleHashtable.<Integer, Integer>openAddressing())) {
+            for (int i = 0; i < 100000; i++)
+                s.put(i, i);
+            assertEquals(100000, s.stream().count());
+            assertEquals(4999950000L, s.parallelStream().mapToLong(SimpleHashtable.TableEntry::getValue).sum());
+            assertEquals(50000, s.parallelStream().filter(e -> e.getKey() % 2 == 0).count());
+        }
+    }
+
+    @Test
+    public void spliteratorSplitsTableTest() {
+        SimpleHashtable<Integer, Integer> s = new SimpleHashtable<>();
+        for (int i = 0; i < 1000; i++)
+            s.put(i, i);
+        Spliterator<SimpleHashtable.TableEntry<Integer, Integer>> suffix = s.spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(suffix.hasCharacteristics(Spliterator.DISTINCT));
+        assertEquals(1000, suffix.getExactSizeIfKnown());
+
+        Spliterator<SimpleHashtable.TableEntry<Integer, Integer>> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertFalse(suffix.hasCharacteristics(Spliterator.SIZED));
+        int[] count = new int[1];
+        prefix.forEachRemaining(e -> count[0]++);
+        while (suffix.tryAdvance(e -> count[0]++)) {
+        }
+        assertEquals(1000, count[0]);
+
+        Spliterator<SimpleHashtable.TableEntry<Integer, Integer>> modified = s.spliterator();
+        assertThrows(ConcurrentModificationException.class, () -> modified.forEachRemaining(e -> s.remove(e.getKey())));
+    }
+
+    @Test
+    public void treeBinWithCompareToInconsistentWithEqualsTest() {
+        SimpleHashtable<DecimalKey, Integer> s = new SimpleHashtable<>(64);
+        /*keys 0, 0.0 and 0.00 compare as equal but are not equal*/
+        for (int i = 0; i < 30; i++)
+            s.put(new DecimalKey(i / 3, i % 3), i);
+        for (int i = 0; i < 30; i++)
+            assertEquals(i, s.put(new DecimalKey(i / 3, i % 3), i));
+        assertEquals(30, s.size());
+        for (int i = 0; i < 30; i++)
+            assertEquals(i, s.get(new DecimalKey(i / 3, i % 3)));
+        for (int i = 0; i < 30; i += 2)
+            assertEquals(i, s.remove(new DecimalKey(i / 3, i % 3)));
+        assertEquals(15, s.size());
+        for (int i = 0; i < 30; i++)
+            assertEquals(i % 2 == 0 ? null : (Integer) i, s.get(new DecimalKey(i / 3, i % 3)));
+    }
+
+    /**
+     * Key wrapping <code>BigDecimal</code> whose hash code is same for all keys,
+     * so its <code>compareTo</code> is not consistent with <code>equals</code> inside one slot.
+     */
+    private static class DecimalKey implements Comparable<DecimalKey> {
+
+        private final BigDecimal value;
+
+        private DecimalKey(int value, int scale) {
+            this.value = BigDecimal.valueOf(value).setScale(scale);
+        }
+
+        @Override
+        public int compareTo(DecimalKey o) {
+            return this.value.compareTo(o.value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DecimalKey && ((DecimalKey) o).value.equals(this.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    /**
+     * Comparable key whose hash code is same for all keys.
+     */
+    private static class CollidingKey implements Comparable<CollidingKey> {
+
+        private final int id;
+
+        private CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(CollidingKey o) {
+            return Integer.compare(this.id, o.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package hr.fer.oprpp1.custom.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnrolledLinkedListIndexedCollectionTest {
+
+    @Test
+    public void randomIndexOperationsTest() {
+        UnrolledLinkedListIndexedCollection<Integer> col = new UnrolledLinkedListIndexedCollection<>();
+        ArrayList<Integer> expected = new ArrayList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(5);
+            if (expected.isEmpty() || operation < 2) {
+                int position = random.nextInt(expected.size() + 1);
+                col.insert(i, position);
+                expected.add(position, i);
+            } else if (operation == 2) {
+                col.add(i);
+                expected.add(i);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                col.remove(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), col.get(index));
+            }
+        }
+        assertEquals(expected.size(), col.size());
+        assertArrayEquals(expected.toArray(), col.toArray());
+        Integer value = expected.get(expected.size() / 2);
+        assertEquals(expected.indexOf(value), col.indexOf(value));
+        assertTrue(col.contains(value));
+        assertTrue(col.remove(value));
+        assertFalse(col.contains(value));
+
+        LinkedListIndexedCollection<Integer> copy = new LinkedListIndexedCollection<>(col);
+        assertArrayEquals(col.toArray(), copy.toArray());
+    }
+
+    @Test
+    public void removeAllElementsTest() {
+        UnrolledLinkedListIndexedCollection<Integer> col = new UnrolledLinkedListIndexedCollection<>();
+        for (int i = 0; i < 100; i++)
+            col.add(i);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, col.get(0));
+            col.remove(0);
+        }
+        assertTrue(col.isEmpty());
+        assertEquals(0, col.toArray().length);
+        col.insert(1, 0);
+        assertEquals(1, col.get(0));
+    }
+
+    @Test
+    public void elementsGetterIsFailFastTest() {
+        UnrolledLinkedListIndexedCollection<String> col = new UnrolledLinkedListIndexedCollection<>();
+        col.add("a");
+        ElementsGetter<String> getter = col.createElementsGetter();
+        col.add("b");
+        assertThrows(ConcurrentModificationException.class, getter::hasNextElement);
+        assertThrows(NullPointerException.class, () -> col.insert(null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> col.remove(2));
+    }
+}
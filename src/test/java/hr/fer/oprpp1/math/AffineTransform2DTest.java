@@ -0,0 +1,59 @@
+package hr.fer.oprpp1.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AffineTransform2DTest {
+
+    @Test
+    public void identityTest() {
+        Vector2D v = AffineTransform2D.identity().applied(new Vector2D(3, -4));
+        assertEquals(3, v.getX());
+        assertEquals(-4, v.getY());
+    }
+
+    @Test
+    public void chainMatchesVector2DTest() {
+        Vector2D offset = new Vector2D(1.5, -2);
+        AffineTransform2D t = AffineTransform2D.translation(offset).rotate(1.3).scale(-2.5).translate(offset);
+        Vector2D v = new Vector2D(4, 5);
+        Vector2D expected = v.added(offset).rotated(1.3).scaled(-2.5).added(offset);
+
+        Vector2D applied = t.applied(v);
+        assertEquals(expected.getX(), applied.getX(), 1E-10);
+        assertEquals(expected.getY(), applied.getY(), 1E-10);
+        assertEquals(4, v.getX());
+
+        t.apply(v);
+        assertEquals(expected.getX(), v.getX(), 1E-10);
+        assertEquals(expected.getY(), v.getY(), 1E-10);
+    }
+
+    @Test
+    public void thenTest() {
+        AffineTransform2D t = AffineTransform2D.rotation(0.7).then(AffineTransform2D.scaling(3))
+                .then(AffineTransform2D.translation(new Vector2D(-1, 2)));
+        Vector2D v = new Vector2D(-2, 0.5);
+        Vector2D expected = v.rotated(0.7).scaled(3).added(new Vector2D(-1, 2));
+        Vector2D applied = t.applied(v);
+        assertEquals(expected.getX(), applied.getX(), 1E-10);
+        assertEquals(expected.getY(), applied.getY(), 1E-10);
+    }
+
+    @Test
+    public void applyToArrayTest() {
+        Vector2D[] vectors = {new Vector2D(4, 5), new Vector2D(-1, 2), new Vector2D(0.5, -3)};
+        Vector2DArray array = new Vector2DArray(vectors);
+        AffineTransform2D t = AffineTransform2D.rotation(1.3).scale(2).translate(new Vector2D(1, 1));
+        t.apply(array, 1, 3);
+        assertEquals(4, array.getX(0));
+        assertEquals(5, array.getY(0));
+        for (int i = 1; i < vectors.length; i++) {
+            Vector2D expected = t.applied(vectors[i]);
+            assertEquals(expected.getX(), array.getX(i), 1E-10);
+            assertEquals(expected.getY(), array.getY(i), 1E-10);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> t.apply(array, 0, 4));
+    }
+}
@@ -0,0 +1,38 @@
+package hr.fer.oprpp1.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImmutableVector2DTest {
+
+    @Test
+    public void operationsMatchVector2DTest() {
+        ImmutableVector2D v = new ImmutableVector2D(4, 5);
+        ImmutableVector2D offset = new ImmutableVector2D(3.6, -4.7);
+        ImmutableVector2D result = v.added(offset).rotated(1.3).scaled(-2.5);
+        Vector2D expected = new Vector2D(4, 5).added(offset.toVector2D()).rotated(1.3).scaled(-2.5);
+        assertEquals(expected.getX(), result.getX(), 1E-10);
+        assertEquals(expected.getY(), result.getY(), 1E-10);
+        assertEquals(4, v.getX());
+        assertEquals(5, v.getY());
+    }
+
+    @Test
+    public void transformedTest() {
+        AffineTransform2D t = AffineTransform2D.rotation(0.4).scale(3).translate(new Vector2D(1, -1));
+        ImmutableVector2D result = new ImmutableVector2D(-2, 0.5).transformed(t);
+        Vector2D expected = t.applied(new Vector2D(-2, 0.5));
+        assertEquals(expected.getX(), result.getX(), 1E-10);
+        assertEquals(expected.getY(), result.getY(), 1E-10);
+    }
+
+    @Test
+    public void equalsTest() {
+        ImmutableVector2D v = ImmutableVector2D.of(new Vector2D(1, 2));
+        assertEquals(new ImmutableVector2D(1, 2), v);
+        assertEquals(new ImmutableVector2D(1, 2).hashCode(), v.hashCode());
+        assertNotEquals(new ImmutableVector2D(2, 1), v);
+        assertEquals(ImmutableVector2D.ZERO, new ImmutableVector2D(0, 0));
+    }
+}
@@ -0,0 +1,56 @@
+package hr.fer.oprpp1.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Vector2DArrayTest {
+
+    @Test
+    public void constructorsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new Vector2DArray(-1));
+        Vector2DArray a = new Vector2DArray(new Vector2D[]{new Vector2D(1, 2), new Vector2D(3, 4)});
+        assertEquals(2, a.length());
+        assertEquals(3, a.getX(1));
+        assertEquals(4, a.getY(1));
+        assertEquals(0, new Vector2DArray(3).getX(2));
+    }
+
+    @Test
+    public void translateAndAddTest() {
+        Vector2DArray a = new Vector2DArray(new Vector2D[]{new Vector2D(1, 2), new Vector2D(3, 4), new Vector2D(5, 6)});
+        a.translate(new Vector2D(10, 20), 1, 3);
+        assertEquals(1, a.getX(0));
+        assertEquals(13, a.getX(1));
+        assertEquals(26, a.getY(2));
+
+        Vector2DArray b = new Vector2DArray(3);
+        b.set(0, 1, 1);
+        b.set(2, new Vector2D(-5, -6));
+        a.add(b);
+        assertEquals(2, a.getX(0));
+        assertEquals(3, a.getY(0));
+        assertEquals(10, a.getX(2));
+        assertEquals(20, a.getY(2));
+        assertThrows(IllegalArgumentException.class, () -> a.add(new Vector2DArray(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> a.add(new Vector2DArray(2), 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> a.translate(new Vector2D(1, 1), 2, 1));
+    }
+
+    @Test
+    public void rotateAndScaleMatchVector2DTest() {
+        Vector2D[] vectors = {new Vector2D(4, 5), new Vector2D(-1, 2), new Vector2D(0.5, -3)};
+        Vector2DArray a = new Vector2DArray(vectors);
+        a.rotate(1.3);
+        a.scale(-2.5, 1, 3);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i].rotate(1.3);
+            if (i > 0)
+                vectors[i].scale(-2.5);
+            assertEquals(vectors[i].getX(), a.getX(i), 1E-10);
+            assertEquals(vectors[i].getY(), a.getY(i), 1E-10);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> a.scale(2, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> a.rotate(2, 0, 4));
+    }
+}